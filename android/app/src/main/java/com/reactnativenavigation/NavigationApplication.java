@@ -11,10 +11,15 @@ import com.facebook.react.ReactApplication;
 import com.facebook.react.ReactNativeHost;
 import com.facebook.react.ReactPackage;
 import com.facebook.react.bridge.ReactContext;
+import com.reactnativenavigation.animation.TransitionMode;
 import com.reactnativenavigation.bridge.EventEmitter;
 import com.reactnativenavigation.controllers.ActivityCallbacks;
+import com.reactnativenavigation.controllers.MemoryGovernor;
+import com.reactnativenavigation.controllers.StartAppCache;
 import com.reactnativenavigation.react.NavigationReactGateway;
+import com.reactnativenavigation.react.ReactDevPermission;
 import com.reactnativenavigation.react.ReactGateway;
+import com.reactnativenavigation.utils.NavigationTracer;
 
 import java.util.List;
 
@@ -31,10 +36,21 @@ public abstract class NavigationApplication extends Application implements React
     public void onCreate() {
         super.onCreate();
         instance = this;
+        NavigationTracer.instance.setEnabled(isNavigationTracingEnabled());
         handler = new Handler(getMainLooper());
         reactGateway = new NavigationReactGateway();
         eventEmitter = new EventEmitter(reactGateway);
         activityCallbacks = new ActivityCallbacks();
+        if (isNativeFirstStartEnabled() && !ReactDevPermission.shouldAskPermission()) {
+            StartAppCache.preload();
+            startReactContextOnceInBackgroundAndExecuteJS();
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        MemoryGovernor.instance.onTrimMemory(level);
     }
 
     @Override
@@ -116,6 +132,68 @@ public abstract class NavigationApplication extends Application implements React
         return null;
     }
 
+    /**
+     * @return max number of prefetched screens kept in memory, 0 disables screen prefetching
+     */
+    public int getScreenPoolSize() {
+        return 3;
+    }
+
+    /**
+     * @return true to start the React context as soon as the application is created and to inflate the layout
+     * of the last startApp while JS is loading. The layout is replaced when JS sends its startApp.
+     */
+    public boolean isNativeFirstStartEnabled() {
+        return false;
+    }
+
+    /**
+     * @return true to save the navigation state when the activity saves its instance state, and to rebuild the screens,
+     * modals and selected tab natively when the activity is re-created after the process was killed
+     */
+    public boolean isNavigationStateRestoreEnabled() {
+        return false;
+    }
+
+    /**
+     * @return number of screens below the top of a stack which keep their React views mounted. Deeper screens
+     * are hibernated and re-created before they're revealed by a pop, 0 disables hibernation
+     */
+    public int getScreenHibernationDepth() {
+        return 0;
+    }
+
+    /**
+     * @return bytes of Java heap in use above which every screen below the top of a stack is hibernated
+     * when a screen is pushed, 0 for no budget
+     */
+    public long getScreenHibernationMemoryBudget() {
+        return 0;
+    }
+
+    /**
+     * @param animationType the animationType screens are pushed with, null for the default animation
+     * @return how screens are rendered while they are animated in or out
+     */
+    public TransitionMode getTransitionMode(@Nullable String animationType) {
+        return TransitionMode.Default;
+    }
+
+    /**
+     * @return true to draw shared elements in the overlay of the screen while they're animated, instead of moving
+     * them to the screen. Requires API 18, older versions always move the elements.
+     */
+    public boolean isSharedElementOverlayEnabled() {
+        return false;
+    }
+
+    /**
+     * @return true to record the steps of navigation commands, see NavigationTracer. Defaults to debug builds.
+     */
+    public boolean isNavigationTracingEnabled() {
+        return isDebug();
+    }
+
     public abstract boolean isDebug();
 
     @Nullable
@@ -0,0 +1,169 @@
+package com.reactnativenavigation.animation;
+
+import android.content.Context;
+import android.support.annotation.Nullable;
+import android.view.Choreographer;
+import android.view.WindowManager;
+
+import com.reactnativenavigation.NavigationApplication;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Counts dropped and slow frames while transitions run. Frames are observed with a Choreographer callback
+ * which is only registered while a transition is in progress. Stats are aggregated per transition type
+ * and per screenId. All methods except listener registration must be called on the main thread.
+ */
+public enum TransitionFrameMonitor implements Choreographer.FrameCallback {
+    instance;
+
+    public interface Listener {
+        void onTransitionEnd(String transitionType, @Nullable String screenId, FrameStats stats);
+    }
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+
+    private final List<Transition> transitions = new ArrayList<>();
+    private final Map<String, FrameStats> statsByType = new LinkedHashMap<>();
+    private final Map<String, FrameStats> statsByScreenId = new LinkedHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private long frameIntervalNanos = 0;
+    private long lastFrameTimeNanos = 0;
+    private boolean isFrameCallbackPosted = false;
+
+    public Transition start(String transitionType, @Nullable String screenId) {
+        Transition transition = new Transition(transitionType, screenId);
+        transitions.add(transition);
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            lastFrameTimeNanos = 0;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+        return transition;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (lastFrameTimeNanos != 0) {
+            long frameDuration = frameTimeNanos - lastFrameTimeNanos;
+            for (Transition transition : transitions) {
+                transition.stats.addFrame(frameDuration, getFrameIntervalNanos());
+            }
+        }
+        lastFrameTimeNanos = frameTimeNanos;
+        isFrameCallbackPosted = !transitions.isEmpty();
+        if (isFrameCallbackPosted) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public Map<String, FrameStats> getStatsByType() {
+        return statsByType;
+    }
+
+    public Map<String, FrameStats> getStatsByScreenId() {
+        return statsByScreenId;
+    }
+
+    public void reset() {
+        statsByType.clear();
+        statsByScreenId.clear();
+    }
+
+    private void onTransitionEnd(Transition transition) {
+        if (!transitions.remove(transition)) {
+            return;
+        }
+        getOrCreate(statsByType, transition.type).add(transition.stats);
+        if (transition.screenId != null) {
+            getOrCreate(statsByScreenId, transition.screenId).add(transition.stats);
+        }
+        for (Listener listener : listeners) {
+            listener.onTransitionEnd(transition.type, transition.screenId, transition.stats);
+        }
+    }
+
+    private static FrameStats getOrCreate(Map<String, FrameStats> stats, String key) {
+        FrameStats result = stats.get(key);
+        if (result == null) {
+            result = new FrameStats();
+            stats.put(key, result);
+        }
+        return result;
+    }
+
+    private long getFrameIntervalNanos() {
+        if (frameIntervalNanos == 0) {
+            WindowManager windowManager = (WindowManager) NavigationApplication.instance.getSystemService(Context.WINDOW_SERVICE);
+            float refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+            frameIntervalNanos = (long) (1000000000 / (refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE));
+        }
+        return frameIntervalNanos;
+    }
+
+    public class Transition {
+        private final String type;
+        private final String screenId;
+        private final FrameStats stats = new FrameStats();
+
+        private Transition(String type, @Nullable String screenId) {
+            this.type = type;
+            this.screenId = screenId;
+            stats.transitions = 1;
+        }
+
+        public void end() {
+            onTransitionEnd(this);
+        }
+    }
+
+    public static class FrameStats {
+        /**
+         * Frame durations in vsync intervals: 1, 2, 3, 4-7, 8 and more
+         */
+        public static final String[] HISTOGRAM_BUCKETS = {"1", "2", "3", "4-7", "8+"};
+
+        public int transitions;
+        public int frames;
+        public int slowFrames;
+        public int droppedFrames;
+        public final int[] histogram = new int[HISTOGRAM_BUCKETS.length];
+
+        void addFrame(long durationNanos, long intervalNanos) {
+            int intervals = Math.max(1, Math.round((float) durationNanos / intervalNanos));
+            frames++;
+            droppedFrames += intervals - 1;
+            if (intervals > 1) {
+                slowFrames++;
+            }
+            histogram[getBucket(intervals)]++;
+        }
+
+        void add(FrameStats other) {
+            transitions += other.transitions;
+            frames += other.frames;
+            slowFrames += other.slowFrames;
+            droppedFrames += other.droppedFrames;
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] += other.histogram[i];
+            }
+        }
+
+        private static int getBucket(int intervals) {
+            if (intervals <= 3) return intervals - 1;
+            return intervals < 8 ? 3 : 4;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.reactnativenavigation.animation;
+
+public enum TransitionMode {
+    /**
+     * Screens are animated as they are, React keeps drawing them every frame
+     */
+    Default,
+    /**
+     * Animating screens are rendered to hardware layers for the duration of the animation
+     */
+    HardwareLayer,
+    /**
+     * Like HardwareLayer, but a screen which is animated out is replaced by a bitmap snapshot and hidden
+     * when the animation starts
+     */
+    Snapshot
+}
@@ -1,5 +1,7 @@
 package com.reactnativenavigation.animation;
 
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
 import android.animation.ObjectAnimator;
 import android.support.v4.view.animation.LinearOutSlowInInterpolator;
 import android.view.View;
@@ -15,6 +17,7 @@ public class VisibilityAnimator {
 
     private static final int SHOW_END_VALUE = 0;
     private static final int DURATION = 300;
+    private static final String TRANSITION_TYPE = "Visibility";
 
     private final View view;
     private final int hiddenEndValue;
@@ -65,6 +68,21 @@ public class VisibilityAnimator {
         final ObjectAnimator animator = ObjectAnimator.ofFloat(view, View.TRANSLATION_Y, show ? SHOW_END_VALUE : hiddenEndValue);
         animator.setDuration(DURATION);
         animator.setInterpolator(interpolator);
+        animator.addListener(new AnimatorListenerAdapter() {
+            private TransitionFrameMonitor.Transition transition;
+
+            @Override
+            public void onAnimationStart(Animator animation) {
+                transition = TransitionFrameMonitor.instance.start(TRANSITION_TYPE, null);
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                if (transition != null) {
+                    transition.end();
+                }
+            }
+        });
         return animator;
     }
 }
@@ -6,7 +6,23 @@ import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.ReadableMapKeySetIterator;
 
+/**
+ * Arrays are converted to bundles keyed by their indices, see {@link #indexKey(int)}.
+ * Numbers are checked for a fractional part instead of relying on getInt to throw for doubles.
+ */
 public class BundleConverter {
+    private static final String[] INDEX_KEYS = new String[32];
+
+    static {
+        for (int i = 0; i < INDEX_KEYS.length; i++) {
+            INDEX_KEYS[i] = String.valueOf(i);
+        }
+    }
+
+    public static String indexKey(int index) {
+        return index < INDEX_KEYS.length ? INDEX_KEYS[index] : String.valueOf(index);
+    }
+
     public static Bundle toBundle(ReadableMap map) {
         Bundle bundle = new Bundle();
         ReadableMapKeySetIterator it = map.keySetIterator();
@@ -38,17 +54,23 @@ public class BundleConverter {
     }
 
     private static void putNumber(Bundle bundle, ReadableMap map, String key) {
-        try {
-            bundle.putInt(key, map.getInt(key));
-        } catch (Exception e) {
-            bundle.putDouble(key, map.getDouble(key));
+        double number = map.getDouble(key);
+        if (isInt(number)) {
+            bundle.putInt(key, (int) number);
+        } else {
+            bundle.putDouble(key, number);
         }
     }
 
+    private static boolean isInt(double number) {
+        return number == Math.rint(number) && number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE;
+    }
+
     public static Bundle toBundle(ReadableArray array) {
-        Bundle bundle = new Bundle();
-        for (int i = 0; i < array.size(); i++) {
-            String key = String.valueOf(i);
+        final int size = array.size();
+        Bundle bundle = new Bundle(size);
+        for (int i = 0; i < size; i++) {
+            String key = indexKey(i);
             switch (array.getType(i)) {
                 case Null:
                     break;
@@ -1,17 +1,22 @@
 package com.reactnativenavigation.bridge;
 
+import android.support.annotation.Nullable;
+
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.params.BaseScreenParams;
 import com.reactnativenavigation.react.ReactGateway;
 import com.reactnativenavigation.screens.NavigationType;
+import com.reactnativenavigation.utils.NavigationTracer;
 
 public class EventEmitter {
     private ReactGateway reactGateway;
+    private final NavigatorEventBatcher batcher;
 
     public EventEmitter(ReactGateway reactGateway) {
         this.reactGateway = reactGateway;
+        batcher = new NavigatorEventBatcher(reactGateway);
     }
 
     public void sendWillAppearEvent(BaseScreenParams params, NavigationType type) {
@@ -20,6 +25,9 @@ public class EventEmitter {
     }
 
     public void sendDidAppearEvent(BaseScreenParams params, NavigationType type) {
+        if (NavigationTracer.instance.isEnabled()) {
+            NavigationTracer.instance.instant("didAppear " + type, params.getScreenInstanceId());
+        }
         sendScreenChangedEventToJsScreen("didAppear", params.getNavigatorEventId());
         sendGlobalScreenChangedEvent("didAppear", params.timestamp, params.screenId, type);
     }
@@ -53,41 +61,63 @@ public class EventEmitter {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendNavigatorEvent(eventId, navigatorEventId);
+        batcher.emit(navigatorEventId, eventId, NavigationReactEventEmitter.createNavigatorEvent(eventId, navigatorEventId));
     }
 
     public void sendNavigatorEvent(String eventId, String navigatorEventId, WritableMap data) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendNavigatorEvent(eventId, navigatorEventId, data);
+        batcher.emit(navigatorEventId, eventId, NavigationReactEventEmitter.createNavigatorEvent(eventId, navigatorEventId, data));
     }
 
     public void sendEvent(String eventId, String navigatorEventId) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendEvent(eventId, navigatorEventId);
+        batcher.emit(eventId, eventId, navigatorEventId);
     }
 
     public void sendNavigatorEvent(String eventId, WritableMap arguments) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendEvent(eventId, arguments);
+        batcher.emit(eventId, eventId, arguments);
     }
 
     public void sendEvent(String eventId) {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendEvent(eventId, Arguments.createMap());
+        batcher.emit(eventId, eventId, Arguments.createMap());
     }
 
     public void sendAppLaunchedEvent() {
         if (!NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
-        reactGateway.getReactEventEmitter().sendEvent("RNN.appLaunched", Arguments.createMap());
+        batcher.emitNow("RNN.appLaunched", Arguments.createMap());
+    }
+
+    /**
+     * Events of a frame are sent to JS as a single "RNN.eventBatch" event. Only enable once JS can unpack batches.
+     */
+    public void setBatchingEnabled(boolean enabled) {
+        batcher.setBatchingEnabled(enabled);
+    }
+
+    /**
+     * Events of a coalesced type are sent on the next frame, a queued one is replaced by a newer one sent to
+     * the same navigator in the same frame
+     */
+    public void setCoalesced(String eventId, boolean coalesced) {
+        batcher.setCoalesced(eventId, coalesced);
+    }
+
+    /**
+     * @param mode "throttle", "debounce" or null to send every event
+     */
+    public void setRateLimit(String eventId, @Nullable String mode, long intervalMs) {
+        batcher.setRateLimit(eventId, mode, intervalMs);
     }
 }
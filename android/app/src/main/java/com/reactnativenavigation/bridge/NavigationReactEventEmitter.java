@@ -17,25 +17,19 @@ public class NavigationReactEventEmitter {
         this.eventEmitter = reactContext.getJSModule(RCTDeviceEventEmitter.class);
     }
 
-    public void sendNavigatorEvent(String eventId, String navigatorEventId) {
+    void emit(String eventName, Object data) {
+        eventEmitter.emit(eventName, data);
+    }
+
+    static WritableMap createNavigatorEvent(String eventId, String navigatorEventId) {
         WritableMap data = Arguments.createMap();
         data.putString(KEY_EVENT_TYPE, EVENT_TYPE);
-        data.putString(KEY_EVENT_ID, eventId);
-        data.putString(KEY_NAVIGATOR_EVENT_ID, navigatorEventId);
-        eventEmitter.emit(navigatorEventId, data);
+        return createNavigatorEvent(eventId, navigatorEventId, data);
     }
 
-    public void sendNavigatorEvent(String eventId, String navigatorEventId, WritableMap data) {
+    static WritableMap createNavigatorEvent(String eventId, String navigatorEventId, WritableMap data) {
         data.putString(KEY_NAVIGATOR_EVENT_ID, navigatorEventId);
         data.putString(KEY_EVENT_ID, eventId);
-        eventEmitter.emit(navigatorEventId, data);
-    }
-
-    public void sendEvent(String eventId, String data) {
-        eventEmitter.emit(eventId, data);
-    }
-
-    public void sendEvent(String eventId, WritableMap data) {
-        eventEmitter.emit(eventId, data);
+        return data;
     }
 }
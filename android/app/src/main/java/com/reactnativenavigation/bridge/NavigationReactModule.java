@@ -1,5 +1,7 @@
 package com.reactnativenavigation.bridge;
 
+import android.os.Bundle;
+
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -11,6 +13,8 @@ import com.reactnativenavigation.controllers.NavigationCommandsHandler;
 import com.reactnativenavigation.params.ContextualMenuParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.LightBoxParams;
+import com.reactnativenavigation.params.NavigationParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.SnackbarParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
@@ -22,8 +26,10 @@ import com.reactnativenavigation.params.parsers.SlidingOverlayParamsParser;
 import com.reactnativenavigation.params.parsers.SnackbarParamsParser;
 import com.reactnativenavigation.params.parsers.TitleBarButtonParamsParser;
 import com.reactnativenavigation.params.parsers.TitleBarLeftButtonParamsParser;
+import com.reactnativenavigation.utils.NavigationTracer;
 import com.reactnativenavigation.views.SideMenu.Side;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -40,6 +46,7 @@ import java.util.List;
  */
 public class NavigationReactModule extends ReactContextBaseJavaModule {
     public static final String NAME = "NavigationReactModule";
+    private static final String KEY_NAVIGATION_PARAMS = "navigationParams";
 
     public NavigationReactModule(ReactApplicationContext reactContext) {
         super(reactContext);
@@ -52,7 +59,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void startApp(final ReadableMap params) {
-        NavigationCommandsHandler.startApp(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.startApp(receive("startApp", params));
     }
 
     @ReactMethod
@@ -81,21 +88,34 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     private void setScreenTitleBarRightButtons(String screenInstanceId, String navigatorEventId, ReadableArray rightButtonsParams) {
         List<TitleBarButtonParams> rightButtons = new TitleBarButtonParamsParser()
-                .parseButtons(BundleConverter.toBundle(rightButtonsParams));
+                .parseButtons(ParamsSource.of(rightButtonsParams));
         NavigationCommandsHandler.setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, rightButtons);
     }
 
     private void setScreenTitleBarLeftButton(String screenInstanceId, String navigatorEventId, ReadableMap leftButtonParams) {
         TitleBarLeftButtonParams leftButton = new TitleBarLeftButtonParamsParser()
-                .parseSingleButton(BundleConverter.toBundle(leftButtonParams));
+                .parseSingleButton(ParamsSource.of(leftButtonParams));
         NavigationCommandsHandler.setScreenTitleBarLeftButtons(screenInstanceId, navigatorEventId, leftButton);
     }
 
     private void setScreenFab(String screenInstanceId, String navigatorEventId, ReadableMap fab) {
-        FabParams fabParams = new FabParamsParser().parse(BundleConverter.toBundle(fab), navigatorEventId, screenInstanceId);
+        FabParams fabParams = new FabParamsParser().parse(ParamsSource.of(fab), navigatorEventId, screenInstanceId);
         NavigationCommandsHandler.setScreenFab(screenInstanceId, navigatorEventId, fabParams);
     }
 
+    /**
+     * Applies several screen commands in one main thread pass, see CommandsBatch for the supported commands.
+     * The promise is resolved once all commands were applied.
+     */
+    @ReactMethod
+    public void batch(ReadableArray commands, Promise promise) {
+        List<Bundle> bundles = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            bundles.add(BundleConverter.toBundle(commands.getMap(i)));
+        }
+        NavigationCommandsHandler.batch(bundles, promise);
+    }
+
     @ReactMethod
     public void setScreenStyle(String screenInstanceId, ReadableMap style) {
         NavigationCommandsHandler.setScreenStyle(screenInstanceId, BundleConverter.toBundle(style));
@@ -113,12 +133,12 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void setBottomTabButtonByIndex(Integer index, final ReadableMap params) {
-        NavigationCommandsHandler.setBottomTabButtonByIndex(index, BundleConverter.toBundle(params));
+        NavigationCommandsHandler.setBottomTabButtonByIndex(index, ParamsSource.of(params));
     }
 
     @ReactMethod
     public void setBottomTabButtonByNavigatorId(String navigatorId, final ReadableMap params) {
-        NavigationCommandsHandler.setBottomTabButtonByNavigatorId(navigatorId, BundleConverter.toBundle(params));
+        NavigationCommandsHandler.setBottomTabButtonByNavigatorId(navigatorId, ParamsSource.of(params));
     }
 
     @ReactMethod
@@ -176,32 +196,47 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void push(final ReadableMap params) {
-        NavigationCommandsHandler.push(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.push(receive("push", params));
+    }
+
+    @ReactMethod
+    public void prefetchScreen(final ReadableMap params) {
+        NavigationCommandsHandler.prefetchScreen(receive("prefetchScreen", params));
     }
 
     @ReactMethod
     public void pop(final ReadableMap params) {
-        NavigationCommandsHandler.pop(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.pop(receive("pop", params));
     }
 
     @ReactMethod
     public void popToRoot(final ReadableMap params) {
-        NavigationCommandsHandler.popToRoot(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.popToRoot(receive("popToRoot", params));
+    }
+
+    @ReactMethod
+    public void popTo(final ReadableMap params) {
+        NavigationCommandsHandler.popTo(receive("popTo", params));
+    }
+
+    @ReactMethod
+    public void popN(final ReadableMap params) {
+        NavigationCommandsHandler.popN(receive("popN", params));
     }
 
     @ReactMethod
     public void newStack(final ReadableMap params) {
-        NavigationCommandsHandler.newStack(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.newStack(receive("newStack", params));
     }
 
     @ReactMethod
     public void showModal(final ReadableMap params) {
-        NavigationCommandsHandler.showModal(BundleConverter.toBundle(params));
+        NavigationCommandsHandler.showModal(receive("showModal", params));
     }
 
     @ReactMethod
     public void showLightBox(final ReadableMap params) {
-        LightBoxParams lbp = new LightBoxParamsParser(BundleConverter.toBundle(params)).parse();
+        LightBoxParams lbp = new LightBoxParamsParser(ParamsSource.of(params)).parse();
         NavigationCommandsHandler.showLightBox(lbp);
     }
 
@@ -222,7 +257,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void showSlidingOverlay(final ReadableMap params) {
-        SlidingOverlayParams slidingOverlayParams = new SlidingOverlayParamsParser().parse(BundleConverter.toBundle(params));
+        SlidingOverlayParams slidingOverlayParams = new SlidingOverlayParamsParser().parse(ParamsSource.of(params));
         NavigationCommandsHandler.showSlidingOverlay(slidingOverlayParams);
     }
 
@@ -233,7 +268,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void showSnackbar(final ReadableMap params) {
-        SnackbarParams snackbarParams = new SnackbarParamsParser().parse(BundleConverter.toBundle(params));
+        SnackbarParams snackbarParams = new SnackbarParamsParser().parse(ParamsSource.of(params));
         NavigationCommandsHandler.showSnackbar(snackbarParams);
     }
 
@@ -245,7 +280,7 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
     @ReactMethod
     public void showContextualMenu(final String screenInstanceId, final ReadableMap params, final Callback onButtonClicked) {
         ContextualMenuParams contextualMenuParams =
-                new ContextualMenuParamsParser().parse(BundleConverter.toBundle(params));
+                new ContextualMenuParamsParser().parse(ParamsSource.of(params));
         NavigationCommandsHandler.showContextualMenu(screenInstanceId, contextualMenuParams, onButtonClicked);
     }
 
@@ -259,6 +294,67 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
         NavigationCommandsHandler.getOrientation(promise);
     }
 
+    @ReactMethod
+    public void getScreenPoolStats(Promise promise) {
+        NavigationCommandsHandler.getScreenPoolStats(promise);
+    }
+
+    @ReactMethod
+    public void dumpScreenGraph(Promise promise) {
+        NavigationCommandsHandler.dumpScreenGraph(promise);
+    }
+
+    /**
+     * Resolves with the recent navigation trace events as Chrome trace JSON, see NavigationTracer
+     */
+    @ReactMethod
+    public void getNavigationTrace(Promise promise) {
+        NavigationCommandsHandler.getNavigationTrace(promise);
+    }
+
+    @ReactMethod
+    public void clearNavigationTrace() {
+        NavigationCommandsHandler.clearNavigationTrace();
+    }
+
+    /**
+     * Resolves with frame stats of transitions, aggregated by transition type and by screenId
+     */
+    @ReactMethod
+    public void getTransitionFrameStats(Promise promise) {
+        NavigationCommandsHandler.getTransitionFrameStats(promise);
+    }
+
+    @ReactMethod
+    public void resetTransitionFrameStats() {
+        NavigationCommandsHandler.resetTransitionFrameStats();
+    }
+
+    @ReactMethod
+    public void getTeardownBacklog(Promise promise) {
+        NavigationCommandsHandler.getTeardownBacklog(promise);
+    }
+
+    @ReactMethod
+    public void adoptRestoredNavigationState(Promise promise) {
+        NavigationCommandsHandler.adoptRestoredNavigationState(promise);
+    }
+
+    @ReactMethod
+    public void setEventBatchingEnabled(boolean enabled) {
+        NavigationCommandsHandler.setEventBatchingEnabled(enabled);
+    }
+
+    @ReactMethod
+    public void setEventCoalesced(String eventId, boolean coalesced) {
+        NavigationCommandsHandler.setEventCoalesced(eventId, coalesced);
+    }
+
+    @ReactMethod
+    public void setEventRateLimit(String eventId, String mode, int intervalMs) {
+        NavigationCommandsHandler.setEventRateLimit(eventId, mode, intervalMs);
+    }
+
     @ReactMethod
     public void isAppLaunched(Promise promise) {
         NavigationCommandsHandler.isAppLaunched(promise);
@@ -273,4 +369,21 @@ public class NavigationReactModule extends ReactContextBaseJavaModule {
     public void getCurrentlyVisibleScreenId(Promise promise) {
         NavigationCommandsHandler.getCurrentlyVisibleScreenId(promise);
     }
+
+    /**
+     * Commands are parsed straight from the bridge maps, see ParamsSource
+     */
+    private static ParamsSource receive(String command, ReadableMap params) {
+        ParamsSource result = ParamsSource.of(params);
+        if (!NavigationTracer.instance.isEnabled()) {
+            return result;
+        }
+        NavigationTracer.Span span = NavigationTracer.instance.begin("receive " + command);
+        ParamsSource navigationParams = result.getMap(KEY_NAVIGATION_PARAMS);
+        if (navigationParams != null) {
+            span.setScreenInstanceId(new NavigationParams(navigationParams).screenInstanceId);
+        }
+        span.end();
+        return result;
+    }
 }
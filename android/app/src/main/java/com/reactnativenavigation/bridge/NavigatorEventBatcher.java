@@ -0,0 +1,293 @@
+package com.reactnativenavigation.bridge;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.Nullable;
+import android.view.Choreographer;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.reactnativenavigation.react.ReactGateway;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sends events to JS. Events of a coalesced type are queued until the next frame, and a queued event is replaced
+ * in place by a newer event of the same type sent to the same navigator. Other events are sent right away, after
+ * the queued ones, unless batching is enabled. When it is, every event is queued and the events of a frame are
+ * emitted as a single "RNN.eventBatch" event whose payload is an array of {eventName, data}; it's off until JS
+ * enables it, since JS has to unpack the batch. Event types can also be throttled or debounced.
+ * Events sent from other threads are posted to the main thread.
+ */
+class NavigatorEventBatcher implements Choreographer.FrameCallback {
+    static final String BATCH_EVENT_ID = "RNN.eventBatch";
+    static final String THROTTLE = "throttle";
+    static final String DEBOUNCE = "debounce";
+
+    private final ReactGateway reactGateway;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final List<QueuedEvent> queue = new ArrayList<>();
+    private final Set<String> coalescedEventIds = new HashSet<>();
+    private final Map<String, RateLimit> rateLimits = new HashMap<>();
+    private final Map<String, Limiter> limiters = new HashMap<>();
+    private boolean isBatchingEnabled = false;
+    private boolean isFrameCallbackPosted = false;
+
+    NavigatorEventBatcher(ReactGateway reactGateway) {
+        this.reactGateway = reactGateway;
+        coalescedEventIds.add("searchQueryChange");
+    }
+
+    /**
+     * @param eventName the name the event is emitted with, a navigatorEventId for navigator events
+     * @param eventId the type of the event, used for coalescing and rate limits
+     */
+    void emit(final String eventName, final String eventId, final Object data) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            handler.post(new Runnable() {
+                @Override
+                public void run() {
+                    emit(eventName, eventId, data);
+                }
+            });
+            return;
+        }
+        QueuedEvent event = new QueuedEvent(eventName, eventId, data);
+        if (rateLimits.containsKey(eventId)) {
+            getLimiter(event).emit(event);
+        } else {
+            enqueue(event);
+        }
+    }
+
+    void setBatchingEnabled(boolean enabled) {
+        isBatchingEnabled = enabled;
+    }
+
+    void setCoalesced(String eventId, boolean coalesced) {
+        if (coalesced) {
+            coalescedEventIds.add(eventId);
+        } else {
+            coalescedEventIds.remove(eventId);
+        }
+    }
+
+    /**
+     * @param mode THROTTLE, DEBOUNCE or null to remove the limit
+     */
+    void setRateLimit(String eventId, @Nullable String mode, long intervalMs) {
+        flushLimiters(eventId);
+        if (THROTTLE.equals(mode) || DEBOUNCE.equals(mode)) {
+            rateLimits.put(eventId, new RateLimit(DEBOUNCE.equals(mode), intervalMs));
+        } else {
+            rateLimits.remove(eventId);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        flush();
+    }
+
+    /**
+     * Sends the queued events and then this event, without waiting for the next frame
+     */
+    void emitNow(final String eventName, final Object data) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            handler.post(new Runnable() {
+                @Override
+                public void run() {
+                    emitNow(eventName, data);
+                }
+            });
+            return;
+        }
+        flush();
+        send(eventName, data);
+    }
+
+    private void enqueue(QueuedEvent event) {
+        boolean isCoalesced = coalescedEventIds.contains(event.eventId);
+        if (!isBatchingEnabled && !isCoalesced) {
+            flush();
+            send(event.eventName, event.data);
+            return;
+        }
+        if (isCoalesced && replaceQueued(event)) {
+            return;
+        }
+        queue.add(event);
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * @return true if a queued event with the same key was replaced by this event
+     */
+    private boolean replaceQueued(QueuedEvent event) {
+        for (int i = 0; i < queue.size(); i++) {
+            if (queue.get(i).getKey().equals(event.getKey())) {
+                queue.set(i, event);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void flush() {
+        if (queue.isEmpty()) {
+            return;
+        }
+        List<QueuedEvent> events = new ArrayList<>(queue);
+        queue.clear();
+        if (isBatchingEnabled && events.size() > 1) {
+            WritableArray batch = Arguments.createArray();
+            for (QueuedEvent event : events) {
+                batch.pushMap(event.toMap());
+            }
+            send(BATCH_EVENT_ID, batch);
+        } else {
+            for (QueuedEvent event : events) {
+                send(event.eventName, event.data);
+            }
+        }
+    }
+
+    void send(String eventName, Object data) {
+        if (reactGateway.isInitialized()) {
+            reactGateway.getReactEventEmitter().emit(eventName, data);
+        }
+    }
+
+    private Limiter getLimiter(QueuedEvent event) {
+        Limiter limiter = limiters.get(event.getKey());
+        if (limiter == null) {
+            limiter = new Limiter(event.getKey(), event.eventId, rateLimits.get(event.eventId));
+            limiters.put(event.getKey(), limiter);
+        }
+        return limiter;
+    }
+
+    int getLimiterCount() {
+        return limiters.size();
+    }
+
+    private void flushLimiters(String eventId) {
+        Iterator<Limiter> iterator = limiters.values().iterator();
+        while (iterator.hasNext()) {
+            Limiter limiter = iterator.next();
+            if (limiter.eventId.equals(eventId)) {
+                iterator.remove();
+                limiter.flush();
+            }
+        }
+    }
+
+    private static class QueuedEvent {
+        final String eventName;
+        final String eventId;
+        final Object data;
+
+        QueuedEvent(String eventName, String eventId, Object data) {
+            this.eventName = eventName;
+            this.eventId = eventId;
+            this.data = data;
+        }
+
+        String getKey() {
+            return eventName + "/" + eventId;
+        }
+
+        WritableMap toMap() {
+            WritableMap result = Arguments.createMap();
+            result.putString("eventName", eventName);
+            if (data instanceof WritableMap) {
+                result.putMap("data", (WritableMap) data);
+            } else {
+                result.putString("data", String.valueOf(data));
+            }
+            return result;
+        }
+    }
+
+    private static class RateLimit {
+        final boolean isDebounce;
+        final long intervalMs;
+
+        RateLimit(boolean isDebounce, long intervalMs) {
+            this.isDebounce = isDebounce;
+            this.intervalMs = intervalMs;
+        }
+    }
+
+    /**
+     * Throttled events are sent right away, and then at most once per interval with the latest event of the interval.
+     * Debounced events are sent once no event of the same type was sent to the same navigator for an interval.
+     * A limiter removes itself once it has nothing left to send, so limiters of destroyed screens aren't kept.
+     */
+    private class Limiter implements Runnable {
+        final String key;
+        final String eventId;
+        final RateLimit rateLimit;
+        private QueuedEvent pending;
+        private boolean isScheduled = false;
+
+        Limiter(String key, String eventId, RateLimit rateLimit) {
+            this.key = key;
+            this.eventId = eventId;
+            this.rateLimit = rateLimit;
+        }
+
+        void emit(QueuedEvent event) {
+            pending = event;
+            if (rateLimit.isDebounce) {
+                handler.removeCallbacks(this);
+                handler.postDelayed(this, rateLimit.intervalMs);
+            } else if (!isScheduled) {
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            isScheduled = false;
+            if (pending == null) {
+                remove();
+                return;
+            }
+            enqueue(pending);
+            pending = null;
+            if (rateLimit.isDebounce) {
+                remove();
+            } else {
+                isScheduled = true;
+                handler.postDelayed(this, rateLimit.intervalMs);
+            }
+        }
+
+        void flush() {
+            handler.removeCallbacks(this);
+            isScheduled = false;
+            if (pending != null) {
+                enqueue(pending);
+                pending = null;
+            }
+        }
+
+        private void remove() {
+            if (limiters.get(key) == this) {
+                limiters.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.Bundle;
+
+import com.reactnativenavigation.params.FabParams;
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.TitleBarButtonParams;
+import com.reactnativenavigation.params.TitleBarLeftButtonParams;
+import com.reactnativenavigation.params.parsers.FabParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarButtonParamsParser;
+import com.reactnativenavigation.params.parsers.TitleBarLeftButtonParamsParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A list of screen commands sent by JS in a single bridge call and applied in a single main thread pass.
+ * Each command is a bundle with a "type" and a "screenInstanceId":
+ * setTitle {title}, setSubtitle {subtitle}, setStyle {style}, setTopBarVisible {hidden, animated},
+ * setButtons {navigatorEventId, rightButtons, leftButton, fab}.
+ * Commands of the same type for the same screen are coalesced, the latest values win.
+ */
+class CommandsBatch {
+    private static final String KEY_TYPE = "type";
+    private static final String KEY_SCREEN_INSTANCE_ID = "screenInstanceId";
+    private static final String KEY_NAVIGATOR_EVENT_ID = "navigatorEventId";
+    private static final String KEY_STYLE = "style";
+
+    private static final String SET_TITLE = "setTitle";
+    private static final String SET_SUBTITLE = "setSubtitle";
+    private static final String SET_STYLE = "setStyle";
+    private static final String SET_TOP_BAR_VISIBLE = "setTopBarVisible";
+    private static final String SET_BUTTONS = "setButtons";
+
+    private final List<Command> commands = new ArrayList<>();
+    private final int receivedCount;
+
+    CommandsBatch(List<Bundle> rawCommands) {
+        receivedCount = rawCommands.size();
+        for (Bundle command : coalesce(rawCommands)) {
+            commands.add(parse(command));
+        }
+    }
+
+    int getReceivedCount() {
+        return receivedCount;
+    }
+
+    int getAppliedCount() {
+        return commands.size();
+    }
+
+    void apply(NavigationActivity activity) {
+        for (Command command : commands) {
+            command.apply(activity);
+        }
+    }
+
+    /**
+     * A coalesced command keeps the position of the first command it was merged from
+     */
+    static List<Bundle> coalesce(List<Bundle> rawCommands) {
+        Map<String, Bundle> result = new LinkedHashMap<>();
+        for (Bundle command : rawCommands) {
+            String key = command.getString(KEY_TYPE) + ":" + command.getString(KEY_SCREEN_INSTANCE_ID);
+            Bundle previous = result.get(key);
+            result.put(key, previous == null ? command : merge(previous, command));
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private static Bundle merge(Bundle previous, Bundle command) {
+        Bundle merged = new Bundle(previous);
+        if (SET_STYLE.equals(command.getString(KEY_TYPE)) && previous.getBundle(KEY_STYLE) != null) {
+            Bundle style = new Bundle(previous.getBundle(KEY_STYLE));
+            style.putAll(command.getBundle(KEY_STYLE));
+            merged.putBundle(KEY_STYLE, style);
+        } else {
+            merged.putAll(command);
+        }
+        return merged;
+    }
+
+    private static Command parse(final Bundle command) {
+        final String type = command.getString(KEY_TYPE);
+        final String screenInstanceId = command.getString(KEY_SCREEN_INSTANCE_ID);
+        if (type == null || screenInstanceId == null) {
+            throw new IllegalArgumentException("Batched command must have a type and a screenInstanceId");
+        }
+        switch (type) {
+            case SET_TITLE:
+                return new Command() {
+                    @Override
+                    public void apply(NavigationActivity activity) {
+                        activity.setTitleBarTitle(screenInstanceId, command.getString("title"));
+                    }
+                };
+            case SET_SUBTITLE:
+                return new Command() {
+                    @Override
+                    public void apply(NavigationActivity activity) {
+                        activity.setTitleBarSubtitle(screenInstanceId, command.getString("subtitle"));
+                    }
+                };
+            case SET_STYLE:
+                return new Command() {
+                    @Override
+                    public void apply(NavigationActivity activity) {
+                        activity.setScreenStyle(screenInstanceId, command.getBundle(KEY_STYLE));
+                    }
+                };
+            case SET_TOP_BAR_VISIBLE:
+                return new Command() {
+                    @Override
+                    public void apply(NavigationActivity activity) {
+                        activity.setTopBarVisible(screenInstanceId, command.getBoolean("hidden"), command.getBoolean("animated"));
+                    }
+                };
+            case SET_BUTTONS:
+                return parseButtons(command, screenInstanceId);
+            default:
+                throw new IllegalArgumentException("Unsupported batched command: " + type);
+        }
+    }
+
+    private static Command parseButtons(Bundle command, final String screenInstanceId) {
+        final String navigatorEventId = command.getString(KEY_NAVIGATOR_EVENT_ID);
+        final List<TitleBarButtonParams> rightButtons = command.containsKey("rightButtons") ?
+                new TitleBarButtonParamsParser().parseButtons(ParamsSource.of(command.getBundle("rightButtons"))) : null;
+        final TitleBarLeftButtonParams leftButton = command.containsKey("leftButton") ?
+                new TitleBarLeftButtonParamsParser().parseSingleButton(ParamsSource.of(command.getBundle("leftButton"))) : null;
+        final FabParams fab = command.containsKey("fab") ?
+                new FabParamsParser().parse(ParamsSource.of(command.getBundle("fab")), navigatorEventId, screenInstanceId) : null;
+        return new Command() {
+            @Override
+            public void apply(NavigationActivity activity) {
+                if (rightButtons != null) {
+                    activity.setTitleBarButtons(screenInstanceId, navigatorEventId, rightButtons);
+                }
+                if (leftButton != null) {
+                    activity.setTitleBarLeftButton(screenInstanceId, navigatorEventId, leftButton);
+                }
+                if (fab != null) {
+                    activity.setScreenFab(screenInstanceId, navigatorEventId, fab);
+                }
+            }
+        };
+    }
+
+    private interface Command {
+        void apply(NavigationActivity activity);
+    }
+}
@@ -0,0 +1,112 @@
+package com.reactnativenavigation.controllers;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.react.ImageLoader;
+import com.reactnativenavigation.screens.ScreenPool;
+import com.reactnativenavigation.screens.ScreenRegistry;
+import com.reactnativenavigation.utils.TypefaceLoader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_BACKGROUND;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_COMPLETE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN;
+
+/**
+ * Releases memory held by navigation in tiers, cheapest to re-create first. Each tier also releases the tiers below it:
+ * - TIER_CACHES: icon and typeface caches.
+ * - TIER_POOLED_SCREENS: prefetched screens waiting in the pool.
+ * - TIER_OFFSCREEN: offscreen top tab pages, hidden bottom tab stacks and closed side menus.
+ * - TIER_HIBERNATION: every screen more than one screen below the top of its stack.
+ * Everything released is re-created when it's needed again. Each trim is reported to JS with a memoryTrimmed event
+ * which holds what every tier reclaimed. All methods must be called on the main thread.
+ */
+public enum MemoryGovernor {
+    instance;
+
+    public static final int TIER_NONE = 0;
+    public static final int TIER_CACHES = 1;
+    public static final int TIER_POOLED_SCREENS = 2;
+    public static final int TIER_OFFSCREEN = 3;
+    public static final int TIER_HIBERNATION = 4;
+
+    private final Set<NavigationActivity> activities = Collections.newSetFromMap(new WeakHashMap<NavigationActivity, Boolean>());
+
+    void register(NavigationActivity activity) {
+        activities.add(activity);
+    }
+
+    void unregister(NavigationActivity activity) {
+        activities.remove(activity);
+    }
+
+    public void onTrimMemory(int level) {
+        int tier = getTier(level);
+        if (tier == TIER_NONE) {
+            return;
+        }
+        WritableMap data = Arguments.createMap();
+        trim(level, tier, data);
+        NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("memoryTrimmed", data);
+    }
+
+    /**
+     * Releases every tier up to tier and reports what each one reclaimed in data
+     */
+    void trim(int level, int tier, WritableMap data) {
+        data.putInt("level", level);
+        data.putInt("tier", tier);
+        if (tier >= TIER_CACHES) {
+            data.putDouble("cacheBytes", ImageLoader.clearCache());
+            data.putInt("typefaces", TypefaceLoader.clearCache());
+        }
+        if (tier >= TIER_POOLED_SCREENS) {
+            data.putInt("pooledScreens", ScreenPool.instance.onTrimMemory());
+        }
+        if (tier >= TIER_OFFSCREEN) {
+            int released = ScreenRegistry.instance.releaseOffscreenTopTabPages();
+            for (NavigationActivity activity : new ArrayList<>(activities)) {
+                released += activity.trimMemory(tier);
+            }
+            data.putInt("offscreenViews", released);
+        }
+        if (tier >= TIER_HIBERNATION) {
+            data.putInt("hibernatedScreens", ScreenRegistry.instance.onTrimMemory());
+        }
+    }
+
+    /**
+     * The RUNNING_* levels are lower than UI_HIDDEN and the background levels, so each scale is graded on its own.
+     * UI_HIDDEN only means the app went to the background, not that memory is low.
+     * @return the highest tier released at this trim level
+     */
+    public static int getTier(int level) {
+        if (level >= TRIM_MEMORY_COMPLETE) {
+            return TIER_HIBERNATION;
+        }
+        if (level >= TRIM_MEMORY_MODERATE) {
+            return TIER_OFFSCREEN;
+        }
+        if (level >= TRIM_MEMORY_BACKGROUND) {
+            return TIER_POOLED_SCREENS;
+        }
+        if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            return TIER_CACHES;
+        }
+        if (level >= TRIM_MEMORY_RUNNING_CRITICAL) {
+            return TIER_OFFSCREEN;
+        }
+        if (level >= TRIM_MEMORY_RUNNING_LOW) {
+            return TIER_CACHES;
+        }
+        return TIER_NONE;
+    }
+}
@@ -100,6 +100,10 @@ public class Modal extends Dialog implements DialogInterface.OnDismissListener,
         return layout.getCurrentlyVisibleScreenId();
     }
 
+    int trimMemory(int tier) {
+        return layout.trimMemory(tier);
+    }
+
     interface OnModalDismissedListener {
         void onModalDismissed(Modal modal);
     }
@@ -147,6 +151,10 @@ public class Modal extends Dialog implements DialogInterface.OnDismissListener,
         layout.push(params);
     }
 
+    void prefetchScreen(ScreenParams params) {
+        layout.prefetchScreen(params);
+    }
+
     @Override
     public void pop(ScreenParams screenParams) {
         layout.pop(screenParams);
@@ -157,6 +165,16 @@ public class Modal extends Dialog implements DialogInterface.OnDismissListener,
         layout.popToRoot(params);
     }
 
+    @Override
+    public void popTo(ScreenParams params, String screenInstanceId) {
+        layout.popTo(params, screenInstanceId);
+    }
+
+    @Override
+    public void popN(ScreenParams params, int count) {
+        layout.popN(params, count);
+    }
+
     @Override
     public void newStack(ScreenParams params) {
         layout.newStack(params);
@@ -166,6 +184,10 @@ public class Modal extends Dialog implements DialogInterface.OnDismissListener,
         return layout.containsNavigator(navigatorId);
     }
 
+    String getNavigatorId() {
+        return screenParams.getNavigatorId();
+    }
+
     @Override
     public void destroy() {
         isDestroyed = true;
@@ -1,6 +1,7 @@
 package com.reactnativenavigation.controllers;
 
 import android.os.Bundle;
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.view.Window;
 
@@ -14,36 +15,46 @@ import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
+import com.reactnativenavigation.screens.ScreenRegistry;
+import com.reactnativenavigation.screens.ScreenStack;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 public class ModalController implements ScreenStackContainer, Modal.OnModalDismissedListener {
     private final AppCompatActivity activity;
     private Stack<Modal> stack = new Stack<>();
+    private final Map<String, Modal> modalsByNavigatorId = new HashMap<>();
 
     public ModalController(AppCompatActivity activity) {
         this.activity = activity;
     }
 
     boolean containsNavigator(String navigatorId) {
-        for (Modal modal : stack) {
-            if (modal.containsNavigator(navigatorId)) {
-                return true;
-            }
-        }
-        return false;
+        return modalsByNavigatorId.containsKey(navigatorId);
+    }
+
+    @Nullable
+    private Modal findModalOfScreen(String screenInstanceId) {
+        ScreenStack screenStack = ScreenRegistry.instance.getStackOfScreen(screenInstanceId);
+        return screenStack == null ? null : modalsByNavigatorId.get(screenStack.getNavigatorId());
     }
 
     void showModal(ScreenParams screenParams) {
         Modal modal = new Modal(activity, this, screenParams);
         modal.show();
         stack.add(modal);
+        modalsByNavigatorId.put(modal.getNavigatorId(), modal);
     }
 
     void dismissTopModal() {
         if (isShowing()) {
-            stack.pop().dismiss();
+            Modal modal = stack.pop();
+            modalsByNavigatorId.remove(modal.getNavigatorId());
+            modal.dismiss();
         }
     }
 
@@ -52,6 +63,18 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
             modal.dismiss();
         }
         stack.clear();
+        modalsByNavigatorId.clear();
+    }
+
+    /**
+     * @return navigatorIds of the shown modals, bottom modal first
+     */
+    List<String> getNavigatorIds() {
+        List<String> result = new ArrayList<>();
+        for (Modal modal : stack) {
+            result.add(modal.getNavigatorId());
+        }
+        return result;
     }
 
     boolean isShowing() {
@@ -62,6 +85,13 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
         stack.peek().push(params);
     }
 
+    void prefetchScreen(ScreenParams params) {
+        Modal modal = modalsByNavigatorId.get(params.getNavigatorId());
+        if (modal != null) {
+            modal.prefetchScreen(params);
+        }
+    }
+
     @Override
     public void pop(ScreenParams screenParams) {
         stack.peek().pop(screenParams);
@@ -72,11 +102,29 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
         stack.peek().popToRoot(params);
     }
 
+    @Override
+    public void popTo(ScreenParams params, String screenInstanceId) {
+        stack.peek().popTo(params, screenInstanceId);
+    }
+
+    @Override
+    public void popN(ScreenParams params, int count) {
+        stack.peek().popN(params, count);
+    }
+
     @Override
     public void newStack(ScreenParams params) {
         stack.peek().newStack(params);
     }
 
+    int trimMemory(int tier) {
+        int released = 0;
+        for (Modal modal : stack) {
+            released += modal.trimMemory(tier);
+        }
+        return released;
+    }
+
     @Override
     public void destroy() {
         for (Modal modal : stack) {
@@ -84,11 +132,13 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
             modal.dismiss();
         }
         stack.clear();
+        modalsByNavigatorId.clear();
     }
 
     @Override
     public void onModalDismissed(Modal modal) {
         stack.remove(modal);
+        modalsByNavigatorId.remove(modal.getNavigatorId());
         if (isShowing()) {
             stack.peek().onModalDismissed();
         }
@@ -96,55 +146,64 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
     }
 
     public void setTopBarVisible(String screenInstanceId, boolean hidden, boolean animated) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setTopBarVisible(screenInstanceId, hidden, animated);
         }
     }
 
     void setTitleBarTitle(String screenInstanceId, String title) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setTitleBarTitle(screenInstanceId, title);
         }
     }
 
     void setTitleBarSubtitle(String screenInstanceId, String subtitle) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setTitleBarSubtitle(screenInstanceId, subtitle);
         }
     }
 
     void setTitleBarRightButtons(String screenInstanceId, String navigatorEventId, List<TitleBarButtonParams> titleBarButtons) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
         }
     }
 
     void setTitleBarLeftButton(String screenInstanceId, String navigatorEventId, TitleBarLeftButtonParams titleBarLeftButton) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButton);
         }
     }
 
     void setFab(String screenInstanceId, String navigatorEventId, FabParams fab) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.setFab(screenInstanceId, navigatorEventId, fab);
         }
     }
 
     void updateScreenStyle(String screenInstanceId, Bundle styleParams) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.updateScreenStyle(screenInstanceId, styleParams);
         }
     }
 
     public void showContextualMenu(String screenInstanceId, ContextualMenuParams params, Callback onButtonClicked) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.showContextualMenu(screenInstanceId, params, onButtonClicked);
         }
     }
 
     public void dismissContextualMenu(String screenInstanceId) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.dismissContextualMenu(screenInstanceId);
         }
     }
@@ -173,13 +232,15 @@ public class ModalController implements ScreenStackContainer, Modal.OnModalDismi
     }
 
     void selectTopTabByTabIndex(String screenInstanceId, int index) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.selectTopTabByTabIndex(screenInstanceId, index);
         }
     }
 
     void selectTopTabByScreen(String screenInstanceId) {
-        for (Modal modal : stack) {
+        Modal modal = findModalOfScreen(screenInstanceId);
+        if (modal != null) {
             modal.selectTopTabByScreen(screenInstanceId);
         }
     }
@@ -12,6 +12,7 @@ import android.view.KeyEvent;
 import android.view.Window;
 
 import com.facebook.react.bridge.Callback;
+import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.modules.core.DefaultHardwareBackBtnHandler;
 import com.facebook.react.modules.core.PermissionAwareActivity;
 import com.facebook.react.modules.core.PermissionListener;
@@ -29,6 +30,7 @@ import com.reactnativenavigation.params.AppStyle;
 import com.reactnativenavigation.params.ContextualMenuParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.LightBoxParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.SnackbarParams;
@@ -37,6 +39,8 @@ import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.react.ReactGateway;
 import com.reactnativenavigation.screens.NavigationType;
 import com.reactnativenavigation.screens.Screen;
+import com.reactnativenavigation.screens.ScreenPool;
+import com.reactnativenavigation.screens.TeardownScheduler;
 import com.reactnativenavigation.utils.OrientationHelper;
 import com.reactnativenavigation.views.SideMenu.Side;
 
@@ -54,24 +58,46 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
      */
     static NavigationActivity currentActivity;
 
+    /**
+     * Set while the layout was inflated from the cached startApp or from a saved navigation state,
+     * and JS hasn't sent its own startApp yet
+     */
+    static volatile NavigationActivity activityStartedFromCache;
+
     private ActivityParams activityParams;
     private ModalController modalController;
     public Layout layout;
+    private boolean isResumed = false;
     @Nullable private PermissionListener mPermissionListener;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        Bundle navigationState = null;
         if (!NavigationApplication.instance.isReactContextInitialized()) {
-            NavigationApplication.instance.startReactContextOnceInBackgroundAndExecuteJS();
-            return;
+            if (!getReactGateway().hasStartedCreatingContext()) {
+                NavigationApplication.instance.startReactContextOnceInBackgroundAndExecuteJS();
+            }
+            if (savedInstanceState != null && NavigationApplication.instance.isNavigationStateRestoreEnabled()) {
+                navigationState = NavigationStateSnapshot.load();
+            }
+            if (navigationState == null && !NavigationCommandsHandler.isStartedFromCache(getIntent())) {
+                return;
+            }
+            activityStartedFromCache = this;
         }
 
-        activityParams = NavigationCommandsHandler.parseActivityParams(getIntent());
+        activityParams = navigationState == null ?
+                NavigationCommandsHandler.parseActivityParams(getIntent()) :
+                NavigationCommandsHandler.parseActivityParams(NavigationStateSnapshot.getActivityParams(navigationState));
         disableActivityShowAnimationIfNeeded();
         setOrientation();
         createModalController();
         createLayout();
+        if (navigationState != null) {
+            NavigationStateSnapshot.restore(navigationState, layout, modalController);
+        }
+        MemoryGovernor.instance.register(this);
         NavigationApplication.instance.getActivityCallbacks().onActivityCreated(this, savedInstanceState);
     }
 
@@ -111,15 +137,19 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
     @Override
     protected void onResume() {
         super.onResume();
+        isResumed = true;
         if (isFinishing() || !NavigationApplication.instance.isReactContextInitialized()) {
             return;
         }
+        onResumeWithReactContext();
+    }
 
+    private void onResumeWithReactContext() {
         currentActivity = this;
         IntentDataHandler.onResume(getIntent());
         getReactGateway().onResumeActivity(this, this);
         NavigationApplication.instance.getActivityCallbacks().onActivityResumed(this);
-        EventBus.instance.register(this);
+        EventBus.instance.register(this, ModalDismissedEvent.TYPE, JsDevReloadEvent.TYPE);
         IntentDataHandler.onPostResume(getIntent());
     }
 
@@ -133,6 +163,7 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
     @Override
     protected void onPause() {
         super.onPause();
+        isResumed = false;
         currentActivity = null;
         IntentDataHandler.onPause(getIntent());
         getReactGateway().onPauseActivity();
@@ -140,6 +171,12 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
         EventBus.instance.unregister(this);
     }
 
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        saveNavigationState();
+    }
+
     @Override
     protected void onStop() {
         super.onStop();
@@ -148,13 +185,71 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
 
     @Override
     protected void onDestroy() {
+        if (activityStartedFromCache == this) {
+            activityStartedFromCache = null;
+        }
+        MemoryGovernor.instance.unregister(this);
+        if (isFinishing()) {
+            NavigationStateSnapshot.delete();
+        }
         destroyLayouts();
         destroyJsIfNeeded();
         NavigationApplication.instance.getActivityCallbacks().onActivityDestroyed(this);
         super.onDestroy();
     }
 
+    /**
+     * JS sent startApp while this activity shows the cached layout. The layout is replaced in place rather than
+     * starting another activity, the cached screens were started with navigation params JS doesn't know about.
+     */
+    void onStartApp(ParamsSource params) {
+        activityStartedFromCache = null;
+        NavigationStateSnapshot.clearRestoredState();
+        activityParams = NavigationCommandsHandler.parseActivityParams(params);
+        destroyLayouts();
+        createModalController();
+        createLayout();
+        if (isResumed && currentActivity != this) {
+            onResumeWithReactContext();
+        }
+    }
+
+    /**
+     * JS chose to continue with the navigation state restored in onCreate instead of sending startApp
+     * @return the restored stacks and modals, or null if nothing was restored
+     */
+    @Nullable
+    WritableMap adoptRestoredNavigationState() {
+        WritableMap result = NavigationStateSnapshot.getRestoredState();
+        if (result != null && activityStartedFromCache == this) {
+            activityStartedFromCache = null;
+            if (isResumed && currentActivity != this) {
+                onResumeWithReactContext();
+            }
+        }
+        return result;
+    }
+
+    private void saveNavigationState() {
+        if (layout != null && activityStartedFromCache == null && !isFinishing() &&
+            NavigationApplication.instance.isNavigationStateRestoreEnabled()) {
+            NavigationStateSnapshot.save(activityParams, layout, modalController);
+        }
+    }
+
+    int trimMemory(int tier) {
+        int released = 0;
+        if (layout != null) {
+            released += layout.trimMemory(tier);
+        }
+        if (modalController != null) {
+            released += modalController.trimMemory(tier);
+        }
+        return released;
+    }
+
     private void destroyLayouts() {
+        ScreenPool.instance.clear(this);
         if (modalController != null) {
             modalController.destroy();
         }
@@ -166,6 +261,7 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
 
     private void destroyJsIfNeeded() {
         if (currentActivity == null || currentActivity.isFinishing()) {
+            TeardownScheduler.instance.flush();
             getReactGateway().onDestroyApp();
         }
     }
@@ -213,6 +309,14 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
         }
     }
 
+    void prefetchScreen(ScreenParams params) {
+        if (modalController.containsNavigator(params.getNavigatorId())) {
+            modalController.prefetchScreen(params);
+        } else {
+            layout.prefetchScreen(params);
+        }
+    }
+
     void pop(ScreenParams params) {
         if (modalController.containsNavigator(params.getNavigatorId())) {
             modalController.pop(params);
@@ -229,6 +333,22 @@ public class NavigationActivity extends AppCompatActivity implements DefaultHard
         }
     }
 
+    void popTo(ScreenParams params, String screenInstanceId) {
+        if (modalController.containsNavigator(params.getNavigatorId())) {
+            modalController.popTo(params, screenInstanceId);
+        } else {
+            layout.popTo(params, screenInstanceId);
+        }
+    }
+
+    void popN(ScreenParams params, int count) {
+        if (modalController.containsNavigator(params.getNavigatorId())) {
+            modalController.popN(params, count);
+        } else {
+            layout.popN(params, count);
+        }
+    }
+
     void newStack(ScreenParams params) {
         if (modalController.containsNavigator(params.getNavigatorId())) {
             modalController.newStack(params);
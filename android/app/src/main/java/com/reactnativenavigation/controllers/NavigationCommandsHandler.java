@@ -8,10 +8,12 @@ import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.WritableMap;
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.animation.TransitionFrameMonitor;
 import com.reactnativenavigation.params.ActivityParams;
 import com.reactnativenavigation.params.ContextualMenuParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.LightBoxParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.SnackbarParams;
@@ -19,89 +21,195 @@ import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.params.parsers.ActivityParamsParser;
 import com.reactnativenavigation.params.parsers.ScreenParamsParser;
+import com.reactnativenavigation.screens.ScreenPool;
+import com.reactnativenavigation.screens.ScreenRegistry;
+import com.reactnativenavigation.screens.TeardownScheduler;
+import com.reactnativenavigation.utils.NavigationTracer;
 import com.reactnativenavigation.utils.OrientationHelper;
+import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.views.SideMenu.Side;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
 
 public class NavigationCommandsHandler {
 
     private static final String ACTIVITY_PARAMS_BUNDLE = "ACTIVITY_PARAMS_BUNDLE";
+    private static final String STARTED_FROM_CACHE = "STARTED_FROM_CACHE";
+    private static final NavigationCommandsQueue commandsQueue = new NavigationCommandsQueue();
 
     public static ActivityParams parseActivityParams(Intent intent) {
-        return ActivityParamsParser.parse(intent.getBundleExtra(NavigationCommandsHandler.ACTIVITY_PARAMS_BUNDLE));
+        return parseActivityParams(intent.getBundleExtra(NavigationCommandsHandler.ACTIVITY_PARAMS_BUNDLE));
+    }
+
+    static ActivityParams parseActivityParams(Bundle params) {
+        return ActivityParamsParser.parse(ParamsSource.of(params));
+    }
+
+    static ActivityParams parseActivityParams(ParamsSource params) {
+        return ActivityParamsParser.parse(params);
+    }
+
+    static boolean isStartedFromCache(Intent intent) {
+        return intent.getBooleanExtra(STARTED_FROM_CACHE, false);
+    }
+
+    private static Callable<ScreenParams> parseScreenParams(final ParamsSource screenParams) {
+        return new Callable<ScreenParams>() {
+            @Override
+            public ScreenParams call() {
+                return ScreenParamsParser.parse(screenParams);
+            }
+        };
     }
 
     /**
      * start a new activity with CLEAR_TASK | NEW_TASK
      *
-     * @param params ActivityParams as bundle
+     * @param params ActivityParams, converted to a bundle only when a new activity is started
+     */
+
+    public static void startApp(final ParamsSource params) {
+        if (NavigationApplication.instance.isNativeFirstStartEnabled()) {
+            StartAppCache.save(params);
+        }
+        final NavigationActivity activityStartedFromCache = NavigationActivity.activityStartedFromCache;
+        if (activityStartedFromCache == null) {
+            startNavigationActivity(params.toBundle(), false);
+            return;
+        }
+        NavigationApplication.instance.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                if (activityStartedFromCache.isFinishing()) {
+                    startNavigationActivity(params.toBundle(), false);
+                } else {
+                    activityStartedFromCache.onStartApp(params);
+                }
+            }
+        });
+    }
+
+    /**
+     * Starts the layout of the last startApp while JS is still loading, the layout is replaced
+     * once JS sends its startApp
+     * @return false if there's no cached startApp
      */
+    static boolean startAppFromCache() {
+        Bundle params = StartAppCache.load();
+        if (params == null) {
+            return false;
+        }
+        startNavigationActivity(params, true);
+        return true;
+    }
 
-    public static void startApp(Bundle params) {
+    private static void startNavigationActivity(Bundle params, boolean isStartedFromCache) {
         Intent intent = new Intent(NavigationApplication.instance, NavigationActivity.class);
         IntentDataHandler.onStartApp(intent);
         intent.addFlags(Intent.FLAG_ACTIVITY_CLEAR_TASK | Intent.FLAG_ACTIVITY_NEW_TASK);
         intent.putExtra(ACTIVITY_PARAMS_BUNDLE, params);
+        intent.putExtra(STARTED_FROM_CACHE, isStartedFromCache);
         intent.putExtra("animationType", params.getString("animationType"));
         NavigationApplication.instance.startActivity(intent);
     }
 
-    public static void push(Bundle screenParams) {
+    public static void push(ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
                 currentActivity.push(params);
             }
         });
     }
 
-    public static void pop(Bundle screenParams) {
+    public static void prefetchScreen(ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
+                currentActivity.prefetchScreen(params);
+            }
+        });
+    }
+
+    public static void pop(ParamsSource screenParams) {
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity == null) {
+            return;
+        }
+
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
+            @Override
+            public void run(ScreenParams params) {
                 currentActivity.pop(params);
             }
         });
     }
 
-    public static void popToRoot(Bundle screenParams) {
+    public static void popToRoot(ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
                 currentActivity.popToRoot(params);
             }
         });
     }
 
-    public static void newStack(Bundle screenParams) {
+    public static void popTo(ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        final String screenInstanceId = screenParams.getString("popToScreenInstanceId");
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
+                currentActivity.popTo(params, screenInstanceId);
+            }
+        });
+    }
+
+    public static void popN(ParamsSource screenParams) {
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity == null) {
+            return;
+        }
+
+        final int count = screenParams.getInt("count", 1);
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
+            @Override
+            public void run(ScreenParams params) {
+                currentActivity.popN(params, count);
+            }
+        });
+    }
+
+    public static void newStack(ParamsSource screenParams) {
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity == null) {
+            return;
+        }
+
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
+            @Override
+            public void run(ScreenParams params) {
                 currentActivity.newStack(params);
             }
         });
@@ -113,7 +221,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setTopBarVisible(screenInstanceID, hidden, animated);
@@ -127,7 +235,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setBottomTabsVisible(hidden, animated);
@@ -141,7 +249,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setTitleBarTitle(screenInstanceId, title);
@@ -155,7 +263,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setTitleBarSubtitle(screenInstanceId, subtitle);
@@ -163,16 +271,16 @@ public class NavigationCommandsHandler {
         });
     }
 
-    public static void showModal(final Bundle params) {
+    public static void showModal(final ParamsSource params) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(params), new Task<ScreenParams>() {
             @Override
-            public void run() {
-                currentActivity.showModal(ScreenParamsParser.parse(params));
+            public void run(ScreenParams screenParams) {
+                currentActivity.showModal(screenParams);
             }
         });
     }
@@ -183,7 +291,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.showLightBox(params);
@@ -197,7 +305,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.dismissLightBox();
@@ -213,7 +321,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setTitleBarButtons(screenInstanceId, navigatorEventId, titleBarButtons);
@@ -229,7 +337,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarButtons);
@@ -242,7 +350,7 @@ public class NavigationCommandsHandler {
         if (currentActivity == null) {
             return;
         }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setScreenFab(screenInstanceId, navigatorEventId, fab);
@@ -255,7 +363,7 @@ public class NavigationCommandsHandler {
         if (currentActivity == null) {
             return;
         }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setScreenStyle(screenInstanceId, styleParams);
@@ -263,13 +371,45 @@ public class NavigationCommandsHandler {
         });
     }
 
+    public static void batch(final List<Bundle> commands, final Promise promise) {
+        final NavigationActivity currentActivity = NavigationActivity.currentActivity;
+        if (currentActivity == null) {
+            promise.reject("NoActivity", "Navigation activity is not running");
+            return;
+        }
+
+        commandsQueue.enqueue(new Callable<CommandsBatch>() {
+            @Override
+            public CommandsBatch call() {
+                try {
+                    return new CommandsBatch(commands);
+                } catch (IllegalArgumentException e) {
+                    promise.reject("InvalidCommand", e.getMessage());
+                    return null;
+                }
+            }
+        }, new Task<CommandsBatch>() {
+            @Override
+            public void run(CommandsBatch batch) {
+                if (batch == null) {
+                    return;
+                }
+                batch.apply(currentActivity);
+                WritableMap result = Arguments.createMap();
+                result.putInt("received", batch.getReceivedCount());
+                result.putInt("applied", batch.getAppliedCount());
+                promise.resolve(result);
+            }
+        });
+    }
+
     public static void dismissTopModal() {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.dismissTopModal();
@@ -283,7 +423,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.dismissAllModals();
@@ -297,7 +437,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.toggleSideMenuVisible(animated, side);
@@ -311,7 +451,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setSideMenuVisible(animated, visible, side);
@@ -325,7 +465,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setSideMenuEnabled(enabled, side);
@@ -339,7 +479,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.selectTopTabByTabIndex(screenInstanceId, index);
@@ -352,7 +492,7 @@ public class NavigationCommandsHandler {
         if (currentActivity == null) {
             return;
         }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.selectTopTabByScreen(screenInstanceId);
@@ -366,7 +506,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.selectBottomTabByTabIndex(index);
@@ -380,7 +520,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.selectBottomTabByNavigatorId(navigatorId);
@@ -394,7 +534,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setBottomTabBadgeByIndex(index, badge);
@@ -408,7 +548,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.setBottomTabBadgeByNavigatorId(navigatorId, badge);
@@ -416,31 +556,29 @@ public class NavigationCommandsHandler {
         });
     }
 
-    public static void setBottomTabButtonByIndex(final Integer index, final Bundle screenParams) {
+    public static void setBottomTabButtonByIndex(final Integer index, final ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
                 currentActivity.setBottomTabButtonByIndex(index, params);
             }
         });
     }
 
-    public static void setBottomTabButtonByNavigatorId(final String navigatorId, final Bundle screenParams) {
+    public static void setBottomTabButtonByNavigatorId(final String navigatorId, final ParamsSource screenParams) {
         final NavigationActivity currentActivity = NavigationActivity.currentActivity;
         if (currentActivity == null) {
             return;
         }
 
-        final ScreenParams params = ScreenParamsParser.parse(screenParams);
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(parseScreenParams(screenParams), new Task<ScreenParams>() {
             @Override
-            public void run() {
+            public void run(ScreenParams params) {
                 currentActivity.setBottomTabButtonByNavigatorId(navigatorId, params);
             }
         });
@@ -452,7 +590,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.showSlidingOverlay(params);
@@ -466,7 +604,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.hideSlidingOverlay();
@@ -480,7 +618,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.showSnackbar(params);
@@ -494,7 +632,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.showContextualMenu(screenInstanceId, params, onButtonClicked);
@@ -508,7 +646,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.dismissContextualMenu(screenInstanceId);
@@ -522,7 +660,7 @@ public class NavigationCommandsHandler {
             return;
         }
 
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 currentActivity.dismissSnackbar();
@@ -538,6 +676,129 @@ public class NavigationCommandsHandler {
         promise.resolve(OrientationHelper.getOrientation(currentActivity));
     }
 
+    public static void getScreenPoolStats(final Promise promise) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                WritableMap map = Arguments.createMap();
+                map.putInt("size", ScreenPool.instance.size());
+                map.putInt("hits", ScreenPool.instance.getHits());
+                map.putInt("misses", ScreenPool.instance.getMisses());
+                promise.resolve(map);
+            }
+        });
+    }
+
+    public static void dumpScreenGraph(final Promise promise) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                promise.resolve(ScreenRegistry.instance.dump());
+            }
+        });
+    }
+
+    public static void getNavigationTrace(Promise promise) {
+        promise.resolve(NavigationTracer.instance.dump());
+    }
+
+    public static void clearNavigationTrace() {
+        NavigationTracer.instance.clear();
+    }
+
+    public static void getTransitionFrameStats(final Promise promise) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                WritableMap result = Arguments.createMap();
+                result.putMap("byType", toMap(TransitionFrameMonitor.instance.getStatsByType()));
+                result.putMap("byScreen", toMap(TransitionFrameMonitor.instance.getStatsByScreenId()));
+                promise.resolve(result);
+            }
+        });
+    }
+
+    private static WritableMap toMap(Map<String, TransitionFrameMonitor.FrameStats> stats) {
+        WritableMap result = Arguments.createMap();
+        for (Map.Entry<String, TransitionFrameMonitor.FrameStats> entry : stats.entrySet()) {
+            TransitionFrameMonitor.FrameStats frameStats = entry.getValue();
+            WritableMap map = Arguments.createMap();
+            map.putInt("transitions", frameStats.transitions);
+            map.putInt("frames", frameStats.frames);
+            map.putInt("slowFrames", frameStats.slowFrames);
+            map.putInt("droppedFrames", frameStats.droppedFrames);
+            WritableMap histogram = Arguments.createMap();
+            for (int i = 0; i < frameStats.histogram.length; i++) {
+                histogram.putInt(TransitionFrameMonitor.FrameStats.HISTOGRAM_BUCKETS[i], frameStats.histogram[i]);
+            }
+            map.putMap("histogram", histogram);
+            result.putMap(entry.getKey(), map);
+        }
+        return result;
+    }
+
+    public static void resetTransitionFrameStats() {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                TransitionFrameMonitor.instance.reset();
+            }
+        });
+    }
+
+    public static void getTeardownBacklog(final Promise promise) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                promise.resolve(TeardownScheduler.instance.getBacklog());
+            }
+        });
+    }
+
+    /**
+     * Continues with the navigation state restored after process death instead of starting the app again
+     * @param promise resolved with the restored stacks and modals, or null if nothing was restored
+     */
+    public static void adoptRestoredNavigationState(final Promise promise) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                NavigationActivity activity = NavigationActivity.activityStartedFromCache;
+                if (activity == null) {
+                    activity = NavigationActivity.currentActivity;
+                }
+                promise.resolve(activity == null ? null : activity.adoptRestoredNavigationState());
+            }
+        });
+    }
+
+    public static void setEventBatchingEnabled(final boolean enabled) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                NavigationApplication.instance.getEventEmitter().setBatchingEnabled(enabled);
+            }
+        });
+    }
+
+    public static void setEventCoalesced(final String eventId, final boolean coalesced) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                NavigationApplication.instance.getEventEmitter().setCoalesced(eventId, coalesced);
+            }
+        });
+    }
+
+    public static void setEventRateLimit(final String eventId, final String mode, final int intervalMs) {
+        commandsQueue.enqueue(new Runnable() {
+            @Override
+            public void run() {
+                NavigationApplication.instance.getEventEmitter().setRateLimit(eventId, mode, intervalMs);
+            }
+        });
+    }
+
     public static void isAppLaunched(Promise promise) {
         final boolean isAppLaunched = SplashActivity.isResumed || NavigationActivity.currentActivity != null;
         promise.resolve(isAppLaunched);
@@ -553,7 +814,7 @@ public class NavigationCommandsHandler {
             promise.resolve("");
             return;
         }
-        NavigationApplication.instance.runOnMainThread(new Runnable() {
+        commandsQueue.enqueue(new Runnable() {
             @Override
             public void run() {
                 WritableMap map = Arguments.createMap();
@@ -0,0 +1,100 @@
+package com.reactnativenavigation.controllers;
+
+import android.support.annotation.NonNull;
+
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.utils.Task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Commands are parsed in parallel on background threads and then committed on the main thread in the order
+ * they were received. Since every command goes through this queue, a command which doesn't need parsing
+ * (setTitle for example) is never applied before a push issued earlier by JS.
+ */
+class NavigationCommandsQueue {
+    private static final int PARSER_THREADS = 2;
+
+    private final ExecutorService parsers = Executors.newFixedThreadPool(PARSER_THREADS, new NamedThreadFactory("RNN-parser"));
+    private final ExecutorService sequencer = Executors.newSingleThreadExecutor(new NamedThreadFactory("RNN-sequencer"));
+    private int pendingCommands = 0;
+
+    <T> void enqueue(Callable<T> parse, final Task<T> commit) {
+        final Future<T> parsed = parsers.submit(parse);
+        synchronized (this) {
+            pendingCommands++;
+        }
+        sequencer.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    final T result = parsed.get();
+                    commitOnMainThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            commit.run(result);
+                        }
+                    });
+                } catch (ExecutionException e) {
+                    commitOnMainThread(rethrow(e.getCause()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    synchronized void enqueue(final Runnable commit) {
+        if (pendingCommands == 0) {
+            NavigationApplication.instance.runOnMainThread(commit);
+            return;
+        }
+        pendingCommands++;
+        sequencer.execute(new Runnable() {
+            @Override
+            public void run() {
+                commitOnMainThread(commit);
+            }
+        });
+    }
+
+    private void commitOnMainThread(Runnable commit) {
+        synchronized (this) {
+            NavigationApplication.instance.runOnMainThread(commit);
+            pendingCommands--;
+        }
+    }
+
+    /**
+     * Parsing errors are thrown on the main thread, just like they used to be thrown on the bridge thread
+     */
+    private static Runnable rethrow(final Throwable cause) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                throw cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+            }
+        };
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+        private final String name;
+        private int count = 0;
+
+        NamedThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public synchronized Thread newThread(@NonNull Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + count++);
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.AsyncTask;
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.reactnativenavigation.layouts.BottomTabsLayout;
+import com.reactnativenavigation.layouts.Layout;
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.params.parsers.ScreenParamsParser;
+import com.reactnativenavigation.screens.ScreenRegistry;
+import com.reactnativenavigation.screens.ScreenStack;
+import com.reactnativenavigation.utils.BundleFile;
+import com.reactnativenavigation.utils.NavigationTracer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the navigation state on disk so the layouts can be rebuilt natively after the process was killed in the background:
+ * the startApp params, the screens of each stack with the bundles they were pushed with, the shown modals and the selected tab.
+ * A snapshot larger than MAX_SIZE_BYTES only keeps the startApp params and the selected tab.
+ * Saving, writing and reading are reported as NavigationTracer spans.
+ * Only used when NavigationApplication#isNavigationStateRestoreEnabled.
+ */
+class NavigationStateSnapshot {
+    private static final int VERSION = 2;
+    private static final int MAX_SIZE_BYTES = 512 * 1024;
+    private static final String KEY_ACTIVITY_PARAMS = "activityParams";
+    private static final String KEY_STACKS = "stacks";
+    private static final String KEY_MODALS = "modals";
+    private static final String KEY_SELECTED_TAB_INDEX = "selectedTabIndex";
+    private static final String KEY_TITLE = "title";
+    private static final String KEY_SUBTITLE = "subtitle";
+
+    private static BundleFile file;
+    private static String lastSavedKey;
+    private static RestoredState restoredState;
+
+    /**
+     * The snapshot is serialized on the calling thread and written to disk in the background. Nothing is serialized
+     * when the startApp params, the selected tab and the saved screens didn't change since the last save.
+     */
+    static void save(ActivityParams activityParams, Layout layout, ModalController modalController) {
+        if (activityParams.params == null) {
+            return;
+        }
+        List<String> navigatorIds = getNavigatorIds(activityParams, modalController);
+        String key = getStateKey(activityParams, layout, navigatorIds);
+        if (key.equals(lastSavedKey)) {
+            return;
+        }
+        lastSavedKey = key;
+        NavigationTracer.Span span = NavigationTracer.instance.begin("saveNavigationState");
+        byte[] data = marshall(getFile(), activityParams, getSelectedTabIndex(layout), getSavedStacks(navigatorIds),
+                modalController.getNavigatorIds());
+        span.end();
+        write(data);
+    }
+
+    @Nullable
+    static Bundle load() {
+        NavigationTracer.Span span = NavigationTracer.instance.begin("readNavigationState");
+        try {
+            return getFile().read();
+        } finally {
+            span.end();
+        }
+    }
+
+    static void delete() {
+        lastSavedKey = null;
+        AsyncTask.SERIAL_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                getFile().delete();
+            }
+        });
+    }
+
+    static Bundle getActivityParams(Bundle snapshot) {
+        return snapshot.getBundle(KEY_ACTIVITY_PARAMS);
+    }
+
+    /**
+     * Pushes the saved screens onto a layout created from the snapshot's activity params, shows the saved modals
+     * and selects the saved tab. Screens are restored without animations.
+     */
+    static void restore(Bundle snapshot, Layout layout, ModalController modalController) {
+        NavigationTracer.Span span = NavigationTracer.instance.begin("restoreNavigationState");
+        restoredState = new RestoredState();
+        Bundle stacks = snapshot.getBundle(KEY_STACKS);
+        List<String> modals = snapshot.getStringArrayList(KEY_MODALS);
+        if (stacks != null) {
+            for (String navigatorId : stacks.keySet()) {
+                if (modals == null || !modals.contains(navigatorId)) {
+                    restoreStack(stacks.getBundle(navigatorId), layout);
+                }
+            }
+        }
+        if (stacks != null && modals != null) {
+            for (String navigatorId : modals) {
+                restoreModal(stacks.getBundle(navigatorId), modalController);
+            }
+        }
+        if (layout instanceof BottomTabsLayout && snapshot.containsKey(KEY_SELECTED_TAB_INDEX)) {
+            int index = snapshot.getInt(KEY_SELECTED_TAB_INDEX);
+            ((BottomTabsLayout) layout).selectBottomTabByTabIndex(index);
+            restoredState.selectedTabIndex = index;
+        }
+        span.end();
+    }
+
+    /**
+     * @return the stacks and modals rebuilt by the last restore, or null if nothing was restored
+     */
+    @Nullable
+    static WritableMap getRestoredState() {
+        return restoredState == null ? null : restoredState.toMap();
+    }
+
+    static void clearRestoredState() {
+        restoredState = null;
+    }
+
+    private static void restoreStack(@Nullable Bundle screens, Layout layout) {
+        List<ScreenParams> params = parseScreens(screens);
+        if (params.isEmpty()) {
+            return;
+        }
+        ScreenStack stack = ScreenRegistry.instance.getStack(params.get(0).getNavigatorId());
+        if (stack == null || !stack.peek().hasScreenInstance(params.get(0).getScreenInstanceId())) {
+            layout.newStack(params.get(0));
+        }
+        for (int i = 1; i < params.size(); i++) {
+            layout.push(params.get(i));
+        }
+        restoredState.stacks.put(params.get(0).getNavigatorId(), params);
+    }
+
+    private static void restoreModal(@Nullable Bundle screens, ModalController modalController) {
+        List<ScreenParams> params = parseScreens(screens);
+        if (params.isEmpty()) {
+            return;
+        }
+        modalController.showModal(params.get(0));
+        for (int i = 1; i < params.size(); i++) {
+            modalController.push(params.get(i));
+        }
+        restoredState.stacks.put(params.get(0).getNavigatorId(), params);
+        restoredState.modals.add(params.get(0).getNavigatorId());
+    }
+
+    private static List<ScreenParams> parseScreens(@Nullable Bundle screens) {
+        List<ScreenParams> result = new ArrayList<>();
+        if (screens == null) {
+            return result;
+        }
+        for (int i = 0; i < screens.size(); i++) {
+            ScreenParams params = ScreenParamsParser.parse(ParamsSource.of(screens.getBundle(String.valueOf(i))));
+            params.animateScreenTransitions = false;
+            result.add(params);
+        }
+        return result;
+    }
+
+    /**
+     * @param stacks the saved screens of each stack, keyed by navigatorId
+     * @param selectedTabIndex -1 if the layout has no tabs
+     */
+    static byte[] marshall(BundleFile file, ActivityParams activityParams, int selectedTabIndex,
+                           Map<String, List<ScreenParams>> stacks, List<String> modals) {
+        return file.marshall(createRoots(activityParams, selectedTabIndex), createStacks(stacks, modals), MAX_SIZE_BYTES);
+    }
+
+    private static Bundle createRoots(ActivityParams activityParams, int selectedTabIndex) {
+        Bundle result = new Bundle();
+        result.putBundle(KEY_ACTIVITY_PARAMS, activityParams.params.toBundle());
+        if (selectedTabIndex >= 0) {
+            result.putInt(KEY_SELECTED_TAB_INDEX, selectedTabIndex);
+        }
+        return result;
+    }
+
+    private static Bundle createStacks(Map<String, List<ScreenParams>> savedStacks, List<String> modals) {
+        Bundle stacks = new Bundle();
+        for (Map.Entry<String, List<ScreenParams>> stack : savedStacks.entrySet()) {
+            Bundle bundle = new Bundle();
+            for (ScreenParams params : stack.getValue()) {
+                bundle.putBundle(String.valueOf(bundle.size()), toBundle(params));
+            }
+            stacks.putBundle(stack.getKey(), bundle);
+        }
+        Bundle result = new Bundle();
+        result.putBundle(KEY_STACKS, stacks);
+        result.putStringArrayList(KEY_MODALS, new ArrayList<>(modals));
+        return result;
+    }
+
+    private static int getSelectedTabIndex(Layout layout) {
+        return layout instanceof BottomTabsLayout ? ((BottomTabsLayout) layout).getSelectedTabIndex() : -1;
+    }
+
+    private static Map<String, List<ScreenParams>> getSavedStacks(List<String> navigatorIds) {
+        Map<String, List<ScreenParams>> result = new LinkedHashMap<>();
+        for (String navigatorId : navigatorIds) {
+            List<ScreenParams> screens = getSavedScreens(navigatorId);
+            if (screens != null) {
+                result.put(navigatorId, screens);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Identifies what a snapshot would contain without serializing it
+     */
+    private static String getStateKey(ActivityParams activityParams, Layout layout, List<String> navigatorIds) {
+        StringBuilder result = new StringBuilder().append(System.identityHashCode(activityParams.params));
+        if (layout instanceof BottomTabsLayout) {
+            result.append('|').append(((BottomTabsLayout) layout).getSelectedTabIndex());
+        }
+        for (String navigatorId : navigatorIds) {
+            List<ScreenParams> screens = getSavedScreens(navigatorId);
+            if (screens == null) {
+                continue;
+            }
+            result.append('|').append(navigatorId);
+            for (ScreenParams params : screens) {
+                result.append(',').append(params.getScreenInstanceId())
+                        .append(',').append(params.title)
+                        .append(',').append(params.subtitle);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the root stacks followed by the stacks of the shown modals
+     */
+    private static List<String> getNavigatorIds(ActivityParams activityParams, ModalController modalController) {
+        List<String> result = new ArrayList<>();
+        if (activityParams.type == ActivityParams.Type.TabBased) {
+            for (ScreenParams tab : activityParams.tabParams) {
+                result.add(tab.getNavigatorId());
+            }
+        } else {
+            result.add(activityParams.screenParams.getNavigatorId());
+        }
+        result.addAll(modalController.getNavigatorIds());
+        return result;
+    }
+
+    /**
+     * Screens are saved from the bottom up to the first screen which wasn't created from a bundle,
+     * screens above it couldn't be pushed back in order
+     * @return null if there's no such stack
+     */
+    @Nullable
+    private static List<ScreenParams> getSavedScreens(String navigatorId) {
+        ScreenStack stack = ScreenRegistry.instance.getStack(navigatorId);
+        if (stack == null) {
+            return null;
+        }
+        List<ScreenParams> result = new ArrayList<>();
+        for (ScreenParams params : stack.getScreenParamsList()) {
+            if (params.params == null) {
+                break;
+            }
+            result.add(params);
+        }
+        return result;
+    }
+
+    /**
+     * Titles may have been changed after the screen was pushed. Params read from the bridge are converted here,
+     * only when a snapshot is saved.
+     */
+    private static Bundle toBundle(ScreenParams params) {
+        Bundle result = new Bundle(params.params.toBundle());
+        result.putString(KEY_TITLE, params.title);
+        result.putString(KEY_SUBTITLE, params.subtitle);
+        return result;
+    }
+
+    private static void write(final byte[] data) {
+        AsyncTask.SERIAL_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                NavigationTracer.Span span = NavigationTracer.instance.begin("writeNavigationState");
+                getFile().write(data);
+                span.end();
+            }
+        });
+    }
+
+    private static synchronized BundleFile getFile() {
+        if (file == null) {
+            file = new BundleFile("rnn_navigation_state", VERSION);
+        }
+        return file;
+    }
+
+    private static class RestoredState {
+        final Map<String, List<ScreenParams>> stacks = new LinkedHashMap<>();
+        final List<String> modals = new ArrayList<>();
+        int selectedTabIndex = -1;
+
+        WritableMap toMap() {
+            WritableMap result = Arguments.createMap();
+            WritableMap stacksMap = Arguments.createMap();
+            for (Map.Entry<String, List<ScreenParams>> entry : stacks.entrySet()) {
+                WritableArray screens = Arguments.createArray();
+                for (ScreenParams params : entry.getValue()) {
+                    WritableMap screen = Arguments.createMap();
+                    screen.putString("screenId", params.screenId);
+                    screen.putString("screenInstanceId", params.getScreenInstanceId());
+                    screen.putString("navigatorEventId", params.getNavigatorEventId());
+                    screens.pushMap(screen);
+                }
+                stacksMap.putArray(entry.getKey(), screens);
+            }
+            WritableArray modalsArray = Arguments.createArray();
+            for (String navigatorId : modals) {
+                modalsArray.pushString(navigatorId);
+            }
+            result.putMap("stacks", stacksMap);
+            result.putArray("modals", modalsArray);
+            result.putInt("selectedTabIndex", selectedTabIndex);
+            return result;
+        }
+    }
+}
@@ -25,6 +25,11 @@ public abstract class SplashActivity extends AppCompatActivity {
         super.onResume();
         isResumed = true;
 
+        if (shouldStartAppFromCache() && NavigationCommandsHandler.startAppFromCache()) {
+            overridePendingTransition(0, 0);
+            return;
+        }
+
         if (NavigationApplication.instance.getReactGateway().hasStartedCreatingContext()) {
             NavigationApplication.instance.getEventEmitter().sendAppLaunchedEvent();
             overridePendingTransition(0, 0);
@@ -52,6 +57,12 @@ public abstract class SplashActivity extends AppCompatActivity {
         isResumed = false;
     }
 
+    private boolean shouldStartAppFromCache() {
+        return NavigationApplication.instance.isNativeFirstStartEnabled() &&
+               !NavigationApplication.instance.isReactContextInitialized() &&
+               !ReactDevPermission.shouldAskPermission();
+    }
+
     private void setSplashLayout() {
         final int splashLayout = getSplashLayout();
         if (splashLayout > 0) {
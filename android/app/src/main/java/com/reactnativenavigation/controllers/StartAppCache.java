@@ -0,0 +1,89 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.AsyncTask;
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.utils.BundleFile;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Keeps the params of the last startApp on disk, so a cold start can inflate the layout before JS runs.
+ * The cache is discarded when the app is updated, since the params may no longer match the JS bundle,
+ * and when the platform is updated, see BundleFile.
+ */
+public class StartAppCache {
+    private static final int VERSION = 2;
+
+    private static BundleFile file;
+    @Nullable
+    private static Future<Bundle> preloaded;
+
+    /**
+     * Starts reading the cache in the background, so load() doesn't read the disk on the main thread
+     */
+    public static synchronized void preload() {
+        if (preloaded != null) {
+            return;
+        }
+        FutureTask<Bundle> read = new FutureTask<>(new Callable<Bundle>() {
+            @Override
+            public Bundle call() {
+                return getFile().read();
+            }
+        });
+        AsyncTask.THREAD_POOL_EXECUTOR.execute(read);
+        preloaded = read;
+    }
+
+    /**
+     * Params are converted, marshalled and written to disk in the background, they must not be modified afterwards
+     */
+    static void save(final ParamsSource params) {
+        takePreloaded();
+        AsyncTask.SERIAL_EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                getFile().write(getFile().marshall(params.toBundle()));
+            }
+        });
+    }
+
+    /**
+     * Waits for the preloaded params if preload() was called, reads them on the calling thread otherwise
+     */
+    @Nullable
+    static Bundle load() {
+        Future<Bundle> result = takePreloaded();
+        if (result == null) {
+            return getFile().read();
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            return getFile().read();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    @Nullable
+    private static synchronized Future<Bundle> takePreloaded() {
+        Future<Bundle> result = preloaded;
+        preloaded = null;
+        return result;
+    }
+
+    private static synchronized BundleFile getFile() {
+        if (file == null) {
+            file = new BundleFile("rnn_start_app", VERSION);
+        }
+        return file;
+    }
+}
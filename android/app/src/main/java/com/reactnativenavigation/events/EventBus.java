@@ -3,47 +3,94 @@ package com.reactnativenavigation.events;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+/**
+ * Subscriptions are kept per event type, so a post only reaches subscribers interested in that type.
+ * Subscriber lists are copy-on-write, events can be posted from any thread without locking.
+ * Subscribers are held weakly and cleared references are pruned as they are found.
+ */
 public enum EventBus {
     instance;
 
-    private final List<WeakReference<Subscriber>> subscribers = new ArrayList<>();
+    private static final String ALL_EVENTS = "*";
 
+    private final Map<String, CopyOnWriteArrayList<WeakReference<Subscriber>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Subscriber, String[]> subscribedTypes = new WeakHashMap<>();
+
+    /**
+     * Subscribes to all events. Prefer {@link #register(Subscriber, String...)} with the types the
+     * subscriber actually handles.
+     */
     public void register(Subscriber subscriber) {
+        register(subscriber, ALL_EVENTS);
+    }
+
+    public synchronized void register(Subscriber subscriber, String... types) {
         if (isSubscribed(subscriber)) return;
-        subscribers.add(new WeakReference<>(subscriber));
+        subscribedTypes.put(subscriber, types);
+        for (String type : types) {
+            getOrCreateSubscribers(type).add(new WeakReference<>(subscriber));
+        }
     }
 
-    public void unregister(Subscriber subscriber) {
-        ListIterator<WeakReference<Subscriber>> iterator = subscribers.listIterator();
-        while (iterator.hasNext()) {
-            WeakReference<Subscriber> ref = iterator.next();
-            Subscriber registered = ref.get();
-            if (registered != null && registered == subscriber) {
-                iterator.remove();
+    public synchronized void unregister(Subscriber subscriber) {
+        String[] types = subscribedTypes.remove(subscriber);
+        if (types == null) return;
+        for (String type : types) {
+            List<WeakReference<Subscriber>> typeSubscribers = subscribers.get(type);
+            if (typeSubscribers != null) {
+                removeSubscriber(typeSubscribers, subscriber);
             }
         }
     }
 
     public void post(Event event) {
-        ListIterator<WeakReference<Subscriber>> iterator = subscribers.listIterator();
-        while (iterator.hasNext()) {
-            WeakReference<Subscriber> ref = iterator.next();
+        dispatch(subscribers.get(event.getType()), event);
+        dispatch(subscribers.get(ALL_EVENTS), event);
+    }
+
+    public synchronized boolean isSubscribed(Subscriber subscriber) {
+        return subscribedTypes.containsKey(subscriber);
+    }
+
+    private void dispatch(List<WeakReference<Subscriber>> typeSubscribers, Event event) {
+        if (typeSubscribers == null) return;
+        List<WeakReference<Subscriber>> cleared = null;
+        for (WeakReference<Subscriber> ref : typeSubscribers) {
             Subscriber registered = ref.get();
             if (registered != null) {
                 registered.onEvent(event);
+            } else {
+                if (cleared == null) cleared = new ArrayList<>();
+                cleared.add(ref);
             }
         }
+        if (cleared != null) {
+            typeSubscribers.removeAll(cleared);
+        }
+    }
+
+    private CopyOnWriteArrayList<WeakReference<Subscriber>> getOrCreateSubscribers(String type) {
+        CopyOnWriteArrayList<WeakReference<Subscriber>> typeSubscribers = subscribers.get(type);
+        if (typeSubscribers == null) {
+            typeSubscribers = new CopyOnWriteArrayList<>();
+            subscribers.put(type, typeSubscribers);
+        }
+        return typeSubscribers;
     }
 
-    public boolean isSubscribed(Subscriber subscriber) {
-        for (WeakReference<Subscriber> ref : subscribers) {
+    private void removeSubscriber(List<WeakReference<Subscriber>> typeSubscribers, Subscriber subscriber) {
+        List<WeakReference<Subscriber>> toRemove = new ArrayList<>();
+        for (WeakReference<Subscriber> ref : typeSubscribers) {
             Subscriber registered = ref.get();
-            if (registered != null && registered.equals(subscriber)) {
-                return true;
+            if (registered == null || registered == subscriber) {
+                toRemove.add(ref);
             }
         }
-        return false;
+        typeSubscribers.removeAll(toRemove);
     }
 }
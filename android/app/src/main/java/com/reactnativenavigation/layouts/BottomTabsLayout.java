@@ -2,6 +2,8 @@ package com.reactnativenavigation.layouts;
 
 import android.annotation.SuppressLint;
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.v4.widget.DrawerLayout;
@@ -14,6 +16,7 @@ import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Callback;
 import com.facebook.react.bridge.WritableMap;
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.controllers.MemoryGovernor;
 import com.reactnativenavigation.events.EventBus;
 import com.reactnativenavigation.events.ScreenChangedEvent;
 import com.reactnativenavigation.params.ActivityParams;
@@ -29,7 +32,9 @@ import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 import com.reactnativenavigation.screens.NavigationType;
 import com.reactnativenavigation.screens.Screen;
+import com.reactnativenavigation.screens.ScreenRegistry;
 import com.reactnativenavigation.screens.ScreenStack;
+import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.utils.ViewUtils;
 import com.reactnativenavigation.views.BottomTabs;
 import com.reactnativenavigation.views.LightBox;
@@ -39,7 +44,10 @@ import com.reactnativenavigation.views.SnackbarAndFabContainer;
 import com.reactnativenavigation.views.slidingOverlay.SlidingOverlay;
 import com.reactnativenavigation.views.slidingOverlay.SlidingOverlaysQueue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
 import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
@@ -54,11 +62,13 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     private final SideMenuParams leftSideMenuParams;
     private final SideMenuParams rightSideMenuParams;
     private final SlidingOverlaysQueue slidingOverlaysQueue = new SlidingOverlaysQueue();
+    private final Map<String, List<Task<ScreenStack>>> pendingLazyStackCommands = new HashMap<>();
     private
     @Nullable
     SideMenu sideMenu;
     private int currentStackIndex = 0;
     private LightBox lightBox;
+    private boolean isDestroyed = false;
 
     public BottomTabsLayout(AppCompatActivity activity, ActivityParams params) {
         super(activity);
@@ -88,6 +98,10 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     private void addScreenStacks() {
+        if (params.lazyLoadTabs) {
+            createAndAddScreens(0);
+            return;
+        }
         for (int i = screenStacks.length - 1; i >= 0; i--) {
             createAndAddScreens(i);
         }
@@ -98,6 +112,12 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         ScreenStack newStack = new ScreenStack(getActivity(), getScreenStackParent(), screenParams.getNavigatorId(), this);
         newStack.pushInitialScreen(screenParams, createScreenLayoutParams(screenParams));
         screenStacks[position] = newStack;
+        List<Task<ScreenStack>> pendingCommands = pendingLazyStackCommands.remove(screenParams.getScreenInstanceId());
+        if (pendingCommands != null) {
+            for (Task<ScreenStack> command : pendingCommands) {
+                command.run(newStack);
+            }
+        }
     }
 
     private RelativeLayout getScreenStackParent() {
@@ -133,10 +153,41 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     private void showInitialScreenStack() {
-        showStackAndUpdateStyle(screenStacks[0], NavigationType.InitialScreen);
+        Screen.OnDisplayListener onDisplayListener = null;
+        if (params.lazyLoadTabs && params.prefetchLazyTabs) {
+            onDisplayListener = new Screen.OnDisplayListener() {
+                @Override
+                public void onDisplay() {
+                    prefetchScreenStacks();
+                }
+            };
+        }
+        showStackAndUpdateStyle(screenStacks[0], NavigationType.InitialScreen, onDisplayListener);
         EventBus.instance.post(new ScreenChangedEvent(screenStacks[0].peek().getScreenParams()));
     }
 
+    /**
+     * Creates the stacks of tabs which weren't selected yet, one stack each time the main thread is idle.
+     * Starts once the initial screen was drawn, so prefetching doesn't delay its first frame.
+     */
+    private void prefetchScreenStacks() {
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            @Override
+            public boolean queueIdle() {
+                if (isDestroyed) {
+                    return false;
+                }
+                for (int i = 0; i < screenStacks.length; i++) {
+                    if (screenStacks[i] == null) {
+                        createAndAddScreens(i);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        });
+    }
+
     @Override
     public View asView() {
         return this;
@@ -159,10 +210,13 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void setTopBarVisible(String screenInstanceId, boolean hidden, boolean animated) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTopBarVisible(screenInstanceId, hidden, animated);
-        }
+    public void setTopBarVisible(final String screenInstanceId, final boolean hidden, final boolean animated) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setScreenTopBarVisible(screenInstanceId, hidden, animated);
+            }
+        });
     }
 
     public void setBottomTabsVisible(boolean hidden, boolean animated) {
@@ -170,45 +224,63 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void setTitleBarTitle(String screenInstanceId, String title) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarTitle(screenInstanceId, title);
-        }
+    public void setTitleBarTitle(final String screenInstanceId, final String title) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setScreenTitleBarTitle(screenInstanceId, title);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarSubtitle(String screenInstanceId, String subtitle) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarSubtitle(screenInstanceId, subtitle);
-        }
+    public void setTitleBarSubtitle(final String screenInstanceId, final String subtitle) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setScreenTitleBarSubtitle(screenInstanceId, subtitle);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarRightButtons(String screenInstanceId, String navigatorEventId, List<TitleBarButtonParams> titleBarButtons) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
-        }
+    public void setTitleBarRightButtons(final String screenInstanceId, final String navigatorEventId, final List<TitleBarButtonParams> titleBarButtons) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setScreenTitleBarRightButtons(screenInstanceId, navigatorEventId, titleBarButtons);
+            }
+        });
     }
 
     @Override
-    public void setTitleBarLeftButton(String screenInstanceId, String navigatorEventId, TitleBarLeftButtonParams titleBarLeftButtonParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButtonParams);
-        }
+    public void setTitleBarLeftButton(final String screenInstanceId, final String navigatorEventId, final TitleBarLeftButtonParams titleBarLeftButtonParams) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setScreenTitleBarLeftButton(screenInstanceId, navigatorEventId, titleBarLeftButtonParams);
+            }
+        });
     }
 
     @Override
-    public void setFab(String screenInstanceId, String navigatorEventId, FabParams fabParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].setFab(screenInstanceId, fabParams);
-        }
+    public void setFab(final String screenInstanceId, final String navigatorEventId, final FabParams fabParams) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.setFab(screenInstanceId, fabParams);
+            }
+        });
     }
 
     @Override
-    public void updateScreenStyle(String screenInstanceId, Bundle styleParams) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].updateScreenStyle(screenInstanceId, styleParams);
-        }
+    public void updateScreenStyle(final String screenInstanceId, final Bundle styleParams) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.updateScreenStyle(screenInstanceId, styleParams);
+            }
+        });
     }
 
     @Override
@@ -217,17 +289,23 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     @Override
-    public void selectTopTabByTabIndex(String screenInstanceId, int index) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].selectTopTabByTabIndex(screenInstanceId, index);
-        }
+    public void selectTopTabByTabIndex(final String screenInstanceId, final int index) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.selectTopTabByTabIndex(screenInstanceId, index);
+            }
+        });
     }
 
     @Override
-    public void selectTopTabByScreen(String screenInstanceId) {
-        for (int i = 0; i < bottomTabs.getItemsCount(); i++) {
-            screenStacks[i].selectTopTabByScreen(screenInstanceId);
-        }
+    public void selectTopTabByScreen(final String screenInstanceId) {
+        performOnStackOfScreen(screenInstanceId, new Task<ScreenStack>() {
+            @Override
+            public void run(ScreenStack screenStack) {
+                screenStack.selectTopTabByScreen(screenInstanceId);
+            }
+        });
     }
 
     @Override
@@ -322,6 +400,10 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         return getCurrentScreenStack().peek();
     }
 
+    public int getSelectedTabIndex() {
+        return currentStackIndex;
+    }
+
     public void selectBottomTabByTabIndex(Integer index) {
         bottomTabs.setCurrentItem(index);
     }
@@ -355,6 +437,11 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         }
     }
 
+    @Override
+    public void prefetchScreen(ScreenParams params) {
+        getScreenStack(params.getNavigatorId()).prefetch(params);
+    }
+
     @Override
     public void pop(final ScreenParams params) {
         getCurrentScreenStack().pop(params.animateScreenTransitions, params.timestamp, new ScreenStack.OnScreenPop() {
@@ -379,6 +466,27 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         });
     }
 
+    @Override
+    public void popTo(final ScreenParams params, String screenInstanceId) {
+        getCurrentScreenStack().popTo(screenInstanceId, params.animateScreenTransitions, params.timestamp, createOnScreenPop(params));
+    }
+
+    @Override
+    public void popN(final ScreenParams params, int count) {
+        getCurrentScreenStack().popN(count, params.animateScreenTransitions, params.timestamp, createOnScreenPop(params));
+    }
+
+    private ScreenStack.OnScreenPop createOnScreenPop(final ScreenParams params) {
+        return new ScreenStack.OnScreenPop() {
+            @Override
+            public void onScreenPopAnimationEnd() {
+                setBottomTabsStyleFromCurrentScreen();
+                alignSnackbarContainerWithBottomTabs((LayoutParams) snackbarAndFabContainer.getLayoutParams(), params.styleParams);
+                EventBus.instance.post(new ScreenChangedEvent(getCurrentScreenStack().peek().getScreenParams()));
+            }
+        };
+    }
+
     @Override
     public void newStack(final ScreenParams params) {
         ScreenStack screenStack = getScreenStack(params.getNavigatorId());
@@ -398,12 +506,36 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         }
     }
 
+    /**
+     * Hidden tab stacks other than the first one are hibernated and re-created when their tab is selected
+     */
+    @Override
+    public int trimMemory(int tier) {
+        if (tier < MemoryGovernor.TIER_OFFSCREEN) {
+            return 0;
+        }
+        int released = 0;
+        for (int i = 1; i < screenStacks.length; i++) {
+            if (screenStacks[i] != null && i != currentStackIndex) {
+                released += screenStacks[i].hibernateAll();
+            }
+        }
+        if (sideMenu != null) {
+            released += sideMenu.releaseClosedMenus();
+        }
+        return released;
+    }
+
     @Override
     public void destroy() {
         snackbarAndFabContainer.destroy();
+        isDestroyed = true;
         for (ScreenStack screenStack : screenStacks) {
-            screenStack.destroy();
+            if (screenStack != null) {
+                screenStack.destroy();
+            }
         }
+        pendingLazyStackCommands.clear();
         if (sideMenu != null) {
             sideMenu.destroy();
         }
@@ -452,12 +584,16 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
     }
 
     private void showNewStack(int position, NavigationType type) {
-        showStackAndUpdateStyle(screenStacks[position], type);
+        showStackAndUpdateStyle(getScreenStack(position), type);
         currentStackIndex = position;
     }
 
     private void showStackAndUpdateStyle(ScreenStack newStack, NavigationType type) {
-        newStack.show(type);
+        showStackAndUpdateStyle(newStack, type, null);
+    }
+
+    private void showStackAndUpdateStyle(ScreenStack newStack, NavigationType type, @Nullable Screen.OnDisplayListener onDisplayListener) {
+        newStack.show(type, onDisplayListener);
         setStyleFromScreen(newStack.getCurrentScreenStyleParams());
     }
 
@@ -470,11 +606,63 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
         return screenStacks[currentStackIndex];
     }
 
+    /**
+     * In lazy mode, commands sent to the root screen of a tab whose stack wasn't created yet are kept
+     * and applied when the stack is created
+     */
+    private void performOnStackOfScreen(String screenInstanceId, Task<ScreenStack> command) {
+        ScreenStack screenStack = getScreenStackOfScreen(screenInstanceId);
+        if (screenStack != null) {
+            command.run(screenStack);
+        } else if (isRootOfLazyStack(screenInstanceId)) {
+            List<Task<ScreenStack>> pendingCommands = pendingLazyStackCommands.get(screenInstanceId);
+            if (pendingCommands == null) {
+                pendingCommands = new ArrayList<>();
+                pendingLazyStackCommands.put(screenInstanceId, pendingCommands);
+            }
+            pendingCommands.add(command);
+        }
+    }
+
+    private boolean isRootOfLazyStack(String screenInstanceId) {
+        for (int i = 0; i < screenStacks.length; i++) {
+            if (screenStacks[i] == null && params.tabParams.get(i).getScreenInstanceId().equals(screenInstanceId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private ScreenStack getScreenStackOfScreen(String screenInstanceId) {
+        ScreenStack screenStack = ScreenRegistry.instance.getStackOfScreen(screenInstanceId);
+        return isOwnStack(screenStack) ? screenStack : null;
+    }
+
+    private boolean isOwnStack(@Nullable ScreenStack screenStack) {
+        for (ScreenStack stack : screenStacks) {
+            if (stack == screenStack && stack != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private
     @NonNull
     ScreenStack getScreenStack(String navigatorId) {
-        int index = getScreenStackIndex(navigatorId);
-        return screenStacks[index];
+        return getScreenStack(getScreenStackIndex(navigatorId));
+    }
+
+    /**
+     * In lazy mode a tab's stack is created the first time it's needed
+     */
+    @NonNull
+    private ScreenStack getScreenStack(int position) {
+        if (screenStacks[position] == null) {
+            createAndAddScreens(position);
+        }
+        return screenStacks[position];
     }
 
     public void setBottomTabBadgeByIndex(Integer index, String badge) {
@@ -495,7 +683,7 @@ public class BottomTabsLayout extends BaseLayout implements AHBottomNavigation.O
 
     private int getScreenStackIndex(String navigatorId) throws ScreenStackNotFoundException {
         for (int i = 0; i < screenStacks.length; i++) {
-            if (screenStacks[i].getNavigatorId().equals(navigatorId)) {
+            if (params.tabParams.get(i).getNavigatorId().equals(navigatorId)) {
                 return i;
             }
         }
@@ -7,6 +7,7 @@ import com.facebook.react.bridge.Callback;
 import com.reactnativenavigation.params.ContextualMenuParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.LightBoxParams;
+import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 import com.reactnativenavigation.params.SnackbarParams;
 import com.reactnativenavigation.params.TitleBarButtonParams;
@@ -21,6 +22,8 @@ public interface Layout extends ScreenStackContainer {
 
     boolean onBackPressed();
 
+    void prefetchScreen(ScreenParams params);
+
     void setTopBarVisible(String screenInstanceId, boolean hidden, boolean animated);
 
     void setTitleBarTitle(String screenInstanceId, String title);
@@ -68,4 +71,11 @@ public interface Layout extends ScreenStackContainer {
     void updateScreenStyle(String screenInstanceId, Bundle styleParams);
 
     String getCurrentlyVisibleScreenId();
+
+    /**
+     * Releases what the layout can re-create on its own
+     * @param tier one of the MemoryGovernor tiers
+     * @return the number of screens and side menus released
+     */
+    int trimMemory(int tier);
 }
@@ -10,6 +10,10 @@ public interface ScreenStackContainer extends LeftButtonOnClickListener {
 
     void popToRoot(ScreenParams params);
 
+    void popTo(ScreenParams params, String screenInstanceId);
+
+    void popN(ScreenParams params, int count);
+
     void newStack(ScreenParams params);
 
     void destroy();
@@ -8,6 +8,7 @@ import android.widget.RelativeLayout;
 
 import com.facebook.react.bridge.Callback;
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.controllers.MemoryGovernor;
 import com.reactnativenavigation.events.EventBus;
 import com.reactnativenavigation.events.ScreenChangedEvent;
 import com.reactnativenavigation.params.ContextualMenuParams;
@@ -122,6 +123,14 @@ public class SingleScreenLayout extends BaseLayout {
         }
     }
 
+    @Override
+    public int trimMemory(int tier) {
+        if (sideMenu != null && tier >= MemoryGovernor.TIER_OFFSCREEN) {
+            return sideMenu.releaseClosedMenus();
+        }
+        return 0;
+    }
+
     @Override
     public void destroy() {
         stack.destroy();
@@ -144,6 +153,11 @@ public class SingleScreenLayout extends BaseLayout {
         EventBus.instance.post(new ScreenChangedEvent(params));
     }
 
+    @Override
+    public void prefetchScreen(ScreenParams params) {
+        stack.prefetch(params);
+    }
+
     @Override
     public void pop(ScreenParams params) {
         stack.pop(params.animateScreenTransitions, params.timestamp, new ScreenStack.OnScreenPop() {
@@ -164,6 +178,26 @@ public class SingleScreenLayout extends BaseLayout {
         });
     }
 
+    @Override
+    public void popTo(ScreenParams params, String screenInstanceId) {
+        stack.popTo(screenInstanceId, params.animateScreenTransitions, params.timestamp, new ScreenStack.OnScreenPop() {
+            @Override
+            public void onScreenPopAnimationEnd() {
+                EventBus.instance.post(new ScreenChangedEvent(stack.peek().getScreenParams()));
+            }
+        });
+    }
+
+    @Override
+    public void popN(ScreenParams params, int count) {
+        stack.popN(count, params.animateScreenTransitions, params.timestamp, new ScreenStack.OnScreenPop() {
+            @Override
+            public void onScreenPopAnimationEnd() {
+                EventBus.instance.post(new ScreenChangedEvent(stack.peek().getScreenParams()));
+            }
+        });
+    }
+
     @Override
     public void newStack(final ScreenParams params) {
         stack.newStack(params, new LayoutParams(MATCH_PARENT, MATCH_PARENT));
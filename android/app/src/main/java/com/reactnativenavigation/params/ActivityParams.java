@@ -7,10 +7,17 @@ public class ActivityParams {
         SingleScreen, TabBased
     }
 
+    /**
+     * The startApp params these were parsed from
+     */
+    public ParamsSource params;
+
     public Type type;
     public ScreenParams screenParams;
     public List<ScreenParams> tabParams;
     public SideMenuParams leftSideMenuParams;
     public SideMenuParams rightSideMenuParams;
     public boolean animateShow;
+    public boolean lazyLoadTabs;
+    public boolean prefetchLazyTabs;
 }
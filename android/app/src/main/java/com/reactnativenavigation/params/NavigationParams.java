@@ -19,6 +19,12 @@ public class NavigationParams {
         navigatorEventId = bundle.getString(NAVIGATOR_EVENT_ID);
     }
 
+    public NavigationParams(ParamsSource params) {
+        screenInstanceId = params.getString(SCREEN_INSTANCE_ID);
+        navigatorId = params.getString(NAVIGATOR_ID);
+        navigatorEventId = params.getString(NAVIGATOR_EVENT_ID);
+    }
+
     public Bundle toBundle() {
         Bundle b = new Bundle();
         b.putString(SCREEN_INSTANCE_ID, screenInstanceId);
@@ -0,0 +1,308 @@
+package com.reactnativenavigation.params;
+
+import android.os.Bundle;
+import android.support.annotation.Nullable;
+
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
+import com.reactnativenavigation.bridge.BundleConverter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Read only params the parsers read from, either a Bundle or the maps JS sent over the bridge.
+ * Reading the bridge maps directly saves converting every command to a Bundle before it's parsed.
+ * Arrays are read as maps keyed by {@link BundleConverter#indexKey(int)}, like BundleConverter converts them,
+ * and null values are treated as missing keys.
+ */
+public abstract class ParamsSource {
+    public static ParamsSource of(Bundle bundle) {
+        return new BundleSource(bundle);
+    }
+
+    public static ParamsSource of(ReadableMap map) {
+        return new ReadableMapSource(map);
+    }
+
+    public static ParamsSource of(ReadableArray array) {
+        return new ReadableArraySource(array);
+    }
+
+    public abstract boolean containsKey(String key);
+
+    @Nullable
+    public abstract String getString(String key);
+
+    public String getString(String key, String defaultValue) {
+        String result = getString(key);
+        return result == null ? defaultValue : result;
+    }
+
+    public boolean getBoolean(String key) {
+        return getBoolean(key, false);
+    }
+
+    public abstract boolean getBoolean(String key, boolean defaultValue);
+
+    public int getInt(String key) {
+        return getInt(key, 0);
+    }
+
+    public abstract int getInt(String key, int defaultValue);
+
+    public abstract double getDouble(String key);
+
+    /**
+     * @return the map or array stored under key, null if there's none
+     */
+    @Nullable
+    public abstract ParamsSource getMap(String key);
+
+    /**
+     * @return the map or array stored at index of an array
+     */
+    @Nullable
+    public ParamsSource getMap(int index) {
+        return getMap(BundleConverter.indexKey(index));
+    }
+
+    public abstract Set<String> keySet();
+
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the bundle these params were read from, or a new bundle converted from the bridge maps
+     */
+    public abstract Bundle toBundle();
+
+    private static class BundleSource extends ParamsSource {
+        private final Bundle bundle;
+
+        BundleSource(Bundle bundle) {
+            this.bundle = bundle;
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return bundle.containsKey(key);
+        }
+
+        @Override
+        public String getString(String key) {
+            return bundle.getString(key);
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defaultValue) {
+            return bundle.getBoolean(key, defaultValue);
+        }
+
+        @Override
+        public int getInt(String key, int defaultValue) {
+            return bundle.getInt(key, defaultValue);
+        }
+
+        @Override
+        public double getDouble(String key) {
+            return bundle.getDouble(key);
+        }
+
+        @Override
+        public ParamsSource getMap(String key) {
+            Bundle result = bundle.getBundle(key);
+            return result == null ? null : new BundleSource(result);
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return bundle.keySet();
+        }
+
+        @Override
+        public int size() {
+            return bundle.size();
+        }
+
+        @Override
+        public Bundle toBundle() {
+            return bundle;
+        }
+    }
+
+    private static class ReadableMapSource extends ParamsSource {
+        private final ReadableMap map;
+
+        ReadableMapSource(ReadableMap map) {
+            this.map = map;
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            return map.hasKey(key) && !map.isNull(key);
+        }
+
+        @Override
+        public String getString(String key) {
+            return isType(key, ReadableType.String) ? map.getString(key) : null;
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defaultValue) {
+            return isType(key, ReadableType.Boolean) ? map.getBoolean(key) : defaultValue;
+        }
+
+        @Override
+        public int getInt(String key, int defaultValue) {
+            return isType(key, ReadableType.Number) ? (int) map.getDouble(key) : defaultValue;
+        }
+
+        @Override
+        public double getDouble(String key) {
+            return isType(key, ReadableType.Number) ? map.getDouble(key) : 0;
+        }
+
+        @Override
+        public ParamsSource getMap(String key) {
+            if (isType(key, ReadableType.Map)) {
+                return new ReadableMapSource(map.getMap(key));
+            }
+            if (isType(key, ReadableType.Array)) {
+                return new ReadableArraySource(map.getArray(key));
+            }
+            return null;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            Set<String> result = new LinkedHashSet<>();
+            ReadableMapKeySetIterator it = map.keySetIterator();
+            while (it.hasNextKey()) {
+                String key = it.nextKey();
+                if (!map.isNull(key)) {
+                    result.add(key);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return keySet().size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            ReadableMapKeySetIterator it = map.keySetIterator();
+            while (it.hasNextKey()) {
+                if (!map.isNull(it.nextKey())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Bundle toBundle() {
+            return BundleConverter.toBundle(map);
+        }
+
+        private boolean isType(String key, ReadableType type) {
+            return map.hasKey(key) && map.getType(key) == type;
+        }
+    }
+
+    private static class ReadableArraySource extends ParamsSource {
+        private final ReadableArray array;
+
+        ReadableArraySource(ReadableArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean containsKey(String key) {
+            int index = toIndex(key);
+            return index >= 0 && !array.isNull(index);
+        }
+
+        @Override
+        public String getString(String key) {
+            int index = toIndex(key);
+            return isType(index, ReadableType.String) ? array.getString(index) : null;
+        }
+
+        @Override
+        public boolean getBoolean(String key, boolean defaultValue) {
+            int index = toIndex(key);
+            return isType(index, ReadableType.Boolean) ? array.getBoolean(index) : defaultValue;
+        }
+
+        @Override
+        public int getInt(String key, int defaultValue) {
+            int index = toIndex(key);
+            return isType(index, ReadableType.Number) ? (int) array.getDouble(index) : defaultValue;
+        }
+
+        @Override
+        public double getDouble(String key) {
+            int index = toIndex(key);
+            return isType(index, ReadableType.Number) ? array.getDouble(index) : 0;
+        }
+
+        @Override
+        public ParamsSource getMap(String key) {
+            return getMap(toIndex(key));
+        }
+
+        @Override
+        public ParamsSource getMap(int index) {
+            if (isType(index, ReadableType.Map)) {
+                return new ReadableMapSource(array.getMap(index));
+            }
+            if (isType(index, ReadableType.Array)) {
+                return new ReadableArraySource(array.getArray(index));
+            }
+            return null;
+        }
+
+        @Override
+        public Set<String> keySet() {
+            Set<String> result = new LinkedHashSet<>();
+            for (int i = 0; i < array.size(); i++) {
+                if (!array.isNull(i)) {
+                    result.add(BundleConverter.indexKey(i));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int size() {
+            return array.size();
+        }
+
+        @Override
+        public Bundle toBundle() {
+            return BundleConverter.toBundle(array);
+        }
+
+        private boolean isType(int index, ReadableType type) {
+            return index >= 0 && array.getType(index) == type;
+        }
+
+        private int toIndex(String key) {
+            try {
+                int index = Integer.parseInt(key);
+                return index < array.size() ? index : -1;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.reactnativenavigation.params;
 import java.util.List;
 
 public class ScreenParams extends BaseScreenParams {
+    /**
+     * The params these were parsed from
+     */
+    public ParamsSource params;
     public String tabLabel;
     public List<PageParams> topTabParams;
     public List<String> sharedElementsTransitions;
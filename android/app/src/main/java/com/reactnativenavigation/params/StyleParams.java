@@ -8,9 +8,9 @@ import android.text.TextUtils;
 import com.reactnativenavigation.utils.TypefaceLoader;
 
 public class StyleParams {
-    public Bundle params;
+    public ParamsSource params;
 
-    public StyleParams(Bundle params) {
+    public StyleParams(ParamsSource params) {
         this.params = params;
     }
     public static class Color {
@@ -37,8 +37,8 @@ public class StyleParams {
             return color;
         }
 
-        public static Color parse(Bundle bundle, String key) {
-            return bundle.containsKey(key) ? new Color(bundle.getInt(key)) : new Color();
+        public static Color parse(ParamsSource params, String key) {
+            return params.containsKey(key) ? new Color(params.getInt(key)) : new Color();
         }
 
         public String getHexColor() {
@@ -109,6 +109,9 @@ public class StyleParams {
     public int selectedTopTabIndicatorHeight;
     public Color selectedTopTabIndicatorColor;
     public boolean topTabsScrollable;
+    public boolean topTabsLazyLoad;
+    public int topTabsOffscreenPageLimit;
+    public boolean topTabsUnmountOffscreenPages;
 
     public Color screenBackgroundColor;
 
@@ -1,35 +1,37 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.ActivityParams;
 import com.reactnativenavigation.params.AppStyle;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.SideMenuParams;
 import com.reactnativenavigation.views.SideMenu;
 
 public class ActivityParamsParser extends Parser {
-    public static ActivityParams parse(Bundle params) {
+    public static ActivityParams parse(ParamsSource params) {
         ActivityParams result = new ActivityParams();
+        result.params = params;
 
         AppStyle.setAppStyle(params);
 
         if (hasKey(params, "screen")) {
             result.type = ActivityParams.Type.SingleScreen;
-            result.screenParams = ScreenParamsParser.parse(params.getBundle("screen"));
+            result.screenParams = ScreenParamsParser.parse(params.getMap("screen"));
         }
 
         if (hasKey(params, "tabs")) {
             result.type = ActivityParams.Type.TabBased;
-            result.tabParams = new ScreenParamsParser().parseTabs(params.getBundle("tabs"));
+            result.tabParams = new ScreenParamsParser().parseTabs(params.getMap("tabs"));
         }
 
         if (hasKey(params, "sideMenu")) {
-            SideMenuParams[] sideMenus = SideMenuParamsParser.parse(params.getBundle("sideMenu"));
+            SideMenuParams[] sideMenus = SideMenuParamsParser.parse(params.getMap("sideMenu"));
             result.leftSideMenuParams = sideMenus[SideMenu.Side.Left.ordinal()];
             result.rightSideMenuParams = sideMenus[SideMenu.Side.Right.ordinal()];
         }
 
         result.animateShow = params.getBoolean("animateShow", true);
+        result.lazyLoadTabs = params.getBoolean("lazyLoadTabs", false);
+        result.prefetchLazyTabs = params.getBoolean("prefetchLazyTabs", false);
 
         return result;
     }
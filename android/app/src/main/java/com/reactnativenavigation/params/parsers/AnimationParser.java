@@ -1,11 +1,11 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
+import com.reactnativenavigation.params.ParamsSource;
 
 class AnimationParser extends Parser {
-    private Bundle params;
+    private ParamsSource params;
 
-    AnimationParser(Bundle params) {
+    AnimationParser(ParamsSource params) {
         this.params = params;
     }
 
@@ -1,8 +1,7 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.FabParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 
@@ -14,18 +13,18 @@ public class ButtonParser extends Parser {
     private static final String KEY_FAB = "fab";
     private static final String KEY_BACK_BUTTON_HIDDEN = "backButtonHidden";
 
-    public static List<TitleBarButtonParams> parseRightButton(Bundle params) {
+    public static List<TitleBarButtonParams> parseRightButton(ParamsSource params) {
         List<TitleBarButtonParams> rightButtons = null;
         if (hasKey(params, KEY_RIGHT_BUTTONS)) {
-            rightButtons = new TitleBarButtonParamsParser().parseButtons(params.getBundle(KEY_RIGHT_BUTTONS));
+            rightButtons = new TitleBarButtonParamsParser().parseButtons(params.getMap(KEY_RIGHT_BUTTONS));
         }
         return rightButtons;
     }
 
-    public static TitleBarLeftButtonParams parseLeftButton(Bundle params) {
+    public static TitleBarLeftButtonParams parseLeftButton(ParamsSource params) {
         TitleBarLeftButtonParams leftButton = null;
         if (hasKey(params, KEY_LEFT_BUTTON)) {
-            leftButton =  new TitleBarLeftButtonParamsParser().parseSingleButton(params.getBundle(KEY_LEFT_BUTTON));
+            leftButton =  new TitleBarLeftButtonParamsParser().parseSingleButton(params.getMap(KEY_LEFT_BUTTON));
 
             boolean backButtonHidden = params.getBoolean(KEY_BACK_BUTTON_HIDDEN, false);
             if (backButtonHidden && leftButton.isBackButton()) {
@@ -35,10 +34,10 @@ public class ButtonParser extends Parser {
         return leftButton;
     }
 
-    public static FabParams parseFab(Bundle params, String navigatorEventId, String screenInstanceId) {
+    public static FabParams parseFab(ParamsSource params, String navigatorEventId, String screenInstanceId) {
         FabParams fabParams = null;
         if (hasKey(params, KEY_FAB)) {
-            fabParams = new FabParamsParser().parse(params.getBundle(KEY_FAB), navigatorEventId, screenInstanceId);
+            fabParams = new FabParamsParser().parse(params.getMap(KEY_FAB), navigatorEventId, screenInstanceId);
         }
         return fabParams;
     }
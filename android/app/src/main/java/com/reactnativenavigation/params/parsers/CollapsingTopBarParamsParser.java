@@ -1,8 +1,7 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.CollapsingTopBarParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseTitleBarBehaviour;
@@ -10,13 +9,13 @@ import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseTopB
 import com.reactnativenavigation.views.collapsingToolbar.behaviours.TitleBarHideOnScrollBehaviour;
 
 class CollapsingTopBarParamsParser extends Parser {
-    private Bundle params;
+    private ParamsSource params;
     private boolean titleBarHideOnScroll;
     private boolean drawBelowTopBar;
     private final boolean hasReactView;
     private final boolean hasBackgroundImage;
 
-    CollapsingTopBarParamsParser(Bundle params, boolean titleBarHideOnScroll, boolean drawBelowTopBar) {
+    CollapsingTopBarParamsParser(ParamsSource params, boolean titleBarHideOnScroll, boolean drawBelowTopBar) {
         this.params = params;
         this.titleBarHideOnScroll = titleBarHideOnScroll;
         this.drawBelowTopBar = drawBelowTopBar;
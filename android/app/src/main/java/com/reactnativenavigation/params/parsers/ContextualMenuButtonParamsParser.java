@@ -1,26 +1,25 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.ContextualMenuButtonParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.react.ImageLoader;
 
 import java.util.List;
 
 public class ContextualMenuButtonParamsParser extends TitleBarButtonParamsParser {
-    public List<ContextualMenuButtonParams> parseContextualMenuButtons(Bundle params) {
+    public List<ContextualMenuButtonParams> parseContextualMenuButtons(ParamsSource params) {
         return parseBundle(params, new ParseStrategy<ContextualMenuButtonParams>() {
             @Override
-            public ContextualMenuButtonParams parse(Bundle button) {
+            public ContextualMenuButtonParams parse(ParamsSource button) {
                 return parseSingleContextualMenuButton(button);
             }
         });
     }
 
-    private ContextualMenuButtonParams parseSingleContextualMenuButton(Bundle button) {
+    private ContextualMenuButtonParams parseSingleContextualMenuButton(ParamsSource button) {
         ContextualMenuButtonParams result = new ContextualMenuButtonParams();
-        if (button.get("icon") != null) {
+        if (button.getString("icon") != null) {
             result.icon = ImageLoader.loadImage(button.getString("icon"));
         }
         result.showAsAction = parseShowAsAction(button.getString("showAsAction"));
@@ -1,16 +1,15 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.ContextualMenuParams;
 import com.reactnativenavigation.params.NavigationParams;
+import com.reactnativenavigation.params.ParamsSource;
 
 public class ContextualMenuParamsParser extends Parser {
-    public ContextualMenuParams parse(Bundle bundle) {
+    public ContextualMenuParams parse(ParamsSource bundle) {
         ContextualMenuParams result = new ContextualMenuParams();
-        result.buttons = new ContextualMenuButtonParamsParser().parseContextualMenuButtons(bundle.getBundle("buttons"));
-        result.leftButton = new TitleBarLeftButtonParamsParser().parseSingleButton(bundle.getBundle("backButton"));
-        result.navigationParams = new NavigationParams(bundle.getBundle("navigationParams"));
+        result.buttons = new ContextualMenuButtonParamsParser().parseContextualMenuButtons(bundle.getMap("buttons"));
+        result.leftButton = new TitleBarLeftButtonParamsParser().parseSingleButton(bundle.getMap("backButton"));
+        result.navigationParams = new NavigationParams(bundle.getMap("navigationParams"));
         return result;
     }
 }
@@ -1,14 +1,13 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.FabActionParams;
 import com.reactnativenavigation.params.FabParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.StyleParams;
 import com.reactnativenavigation.react.ImageLoader;
 
 public class FabParamsParser extends Parser {
-    public FabParams parse(Bundle params, final String navigatorEventId, String screenInstanceId) {
+    public FabParams parse(ParamsSource params, final String navigatorEventId, String screenInstanceId) {
         FabParams fabParams = new FabParams();
         fabParams.collapsedId = params.getString("collapsedId");
         fabParams.expendedId = params.getString("expendedId");
@@ -23,9 +22,9 @@ public class FabParamsParser extends Parser {
             fabParams.expendedIcon = ImageLoader.loadImage(params.getString("expendedIcon"));
         }
         if (hasKey(params, "actions")) {
-            fabParams.actions = parseBundle(params.getBundle("actions"), new ParseStrategy<FabActionParams>() {
+            fabParams.actions = parseBundle(params.getMap("actions"), new ParseStrategy<FabActionParams>() {
                 @Override
-                public FabActionParams parse(Bundle params) {
+                public FabActionParams parse(ParamsSource params) {
                     return new FabActionParamsParser().parse(params, navigatorEventId);
                 }
             });
@@ -1,19 +1,18 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.InterpolationParams;
 import com.reactnativenavigation.params.LinearInterpolationParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.PathInterpolationParams;
 import com.reactnativenavigation.views.sharedElementTransition.ControlPoint;
 
 class InterpolationParser extends Parser {
-    private Bundle params;
+    private ParamsSource params;
 
     private static final float[] defaultShowControlPoints = new float[]{0.5f, 1, 0, 0.5f};
     private static final float[] defaultHideControlPoints = new float[]{0.5f, 0, 1, 0.5f};
 
-    InterpolationParser(Bundle params) {
+    InterpolationParser(ParamsSource params) {
         this.params = params;
     }
 
@@ -31,7 +30,7 @@ class InterpolationParser extends Parser {
         return parse(params, defaultHideControlPoints);
     }
 
-    private InterpolationParams parse(Bundle params, float[] defaultControlPoints) {
+    private InterpolationParams parse(ParamsSource params, float[] defaultControlPoints) {
         InterpolationParams.Type type = InterpolationParams.Type.fromString(params.getString("type"));
         InterpolationParams result = InterpolationParams.Type.Path.equals(type) ?
                 parsePathInterpolation(params, defaultControlPoints) :
@@ -40,7 +39,7 @@ class InterpolationParser extends Parser {
         return result;
     }
 
-    private InterpolationParams parsePathInterpolation(Bundle params, float[] defaultValues) {
+    private InterpolationParams parsePathInterpolation(ParamsSource params, float[] defaultValues) {
         PathInterpolationParams result = new PathInterpolationParams();
         result.p1 = new ControlPoint(
                 Float.valueOf(params.getString("controlX1")), defaultValues[0],
@@ -1,13 +1,13 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
 import com.reactnativenavigation.params.LightBoxParams;
 import com.reactnativenavigation.params.NavigationParams;
+import com.reactnativenavigation.params.ParamsSource;
 
 public class LightBoxParamsParser extends Parser {
-    private Bundle params;
+    private ParamsSource params;
 
-    public LightBoxParamsParser(Bundle params) {
+    public LightBoxParamsParser(ParamsSource params) {
         this.params = params;
     }
 
@@ -17,7 +17,7 @@ public class LightBoxParamsParser extends Parser {
             return result;
         }
         result.screenId = params.getString("screenId");
-        result.navigationParams = new NavigationParams(params.getBundle("navigationParams"));
+        result.navigationParams = new NavigationParams(params.getMap("navigationParams"));
         result.backgroundColor = getColor(params, "backgroundColor");
         result.tapBackgroundToDismiss = params.getBoolean("tapBackgroundToDismiss");
         result.overrideBackPress = params.getBoolean("overrideBackPress");
@@ -1,20 +1,18 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.StyleParams;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 public class Parser {
-    static boolean hasKey(Bundle bundle, String key) {
-        return bundle.keySet().contains(key);
+    static boolean hasKey(ParamsSource params, String key) {
+        return params.containsKey(key);
     }
 
-    static void assertKeyExists(Bundle bundle, String key) {
-        if (!hasKey(bundle, key)) {
+    static void assertKeyExists(ParamsSource params, String key) {
+        if (!hasKey(params, key)) {
             throw new KeyDoesNotExistsException(key);
         }
     }
@@ -26,23 +24,24 @@ public class Parser {
     }
 
     interface ParseStrategy<T> {
-        T parse(Bundle params);
+        T parse(ParamsSource params);
     }
 
-    <T> List<T> parseBundle(Bundle params, ParseStrategy<T> strategy) {
-        ArrayList<T> result = new ArrayList<>(Collections.nCopies(params.keySet().size(), (T) null));
-        for (String key : params.keySet()) {
-            result.set(Integer.parseInt(key), strategy.parse(params.getBundle(key)));
+    <T> List<T> parseBundle(ParamsSource params, ParseStrategy<T> strategy) {
+        final int size = params.size();
+        ArrayList<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(strategy.parse(params.getMap(i)));
         }
         return result;
     }
 
-    protected StyleParams.Color getColor(Bundle params, String backgroundColor) {
+    protected StyleParams.Color getColor(ParamsSource params, String backgroundColor) {
         return getColor(params, backgroundColor, null);
     }
 
-    protected StyleParams.Color getColor(Bundle bundle, String key, StyleParams.Color defaultColor) {
-        StyleParams.Color color = StyleParams.Color.parse(bundle, key);
+    protected StyleParams.Color getColor(ParamsSource params, String key, StyleParams.Color defaultColor) {
+        StyleParams.Color color = StyleParams.Color.parse(params, key);
         return color.hasColor() || defaultColor == null ? color : defaultColor;
     }
 }
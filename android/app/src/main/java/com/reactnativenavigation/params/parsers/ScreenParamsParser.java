@@ -1,12 +1,13 @@
 package com.reactnativenavigation.params.parsers;
 
 import android.graphics.drawable.Drawable;
-import android.os.Bundle;
 
 import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.params.PageParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.ScreenParams;
 import com.reactnativenavigation.react.ImageLoader;
+import com.reactnativenavigation.utils.NavigationTracer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,15 +25,27 @@ public class ScreenParamsParser extends Parser {
     private static final String OVERRIDE_BACK_PRESS = "overrideBackPress";
     private static final String ANIMATION_TYPE = "animationType";
 
+    public static ScreenParams parse(ParamsSource params) {
+        NavigationTracer.Span span = NavigationTracer.instance.begin("parseScreenParams");
+        try {
+            ScreenParams result = parseScreenParams(params);
+            span.setScreenInstanceId(result.getScreenInstanceId());
+            return result;
+        } finally {
+            span.end();
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
-    public static ScreenParams parse(Bundle params) {
+    private static ScreenParams parseScreenParams(ParamsSource params) {
         ScreenParams result = new ScreenParams();
+        result.params = params;
         result.screenId = params.getString(KEY_SCREEN_ID);
         result.timestamp = params.getDouble(KEY_TIMESTAMP);
         assertKeyExists(params, KEY_NAVIGATION_PARAMS);
-        result.navigationParams = new NavigationParams(params.getBundle(KEY_NAVIGATION_PARAMS));
+        result.navigationParams = new NavigationParams(params.getMap(KEY_NAVIGATION_PARAMS));
 
-        result.styleParams = new StyleParamsParser(params.getBundle(STYLE_PARAMS)).parse();
+        result.styleParams = new StyleParamsParser(params.getMap(STYLE_PARAMS)).parse();
 
         result.title = params.getString(KEY_TITLE);
         result.subtitle = params.getString(KEY_SUBTITLE);
@@ -44,7 +57,8 @@ public class ScreenParamsParser extends Parser {
 
         if (hasKey(params, FRAGMENT_CREATOR_CLASS_NAME)) {
             result.fragmentCreatorClassName = params.getString(FRAGMENT_CREATOR_CLASS_NAME);
-            result.fragmentCreatorPassProps = params.getBundle(FRAGMENT_CREATOR_PASS_PROPS);
+            ParamsSource passProps = params.getMap(FRAGMENT_CREATOR_PASS_PROPS);
+            result.fragmentCreatorPassProps = passProps == null ? null : passProps.toBundle();
         }
 
         result.fabParams = ButtonParser.parseFab(params, result.navigationParams.navigatorEventId, result.navigationParams.screenInstanceId);
@@ -60,8 +74,8 @@ public class ScreenParamsParser extends Parser {
         return result;
     }
 
-    private static List<String> getSharedElementsTransitions(Bundle params) {
-        Bundle sharedElements = params.getBundle("sharedElements");
+    private static List<String> getSharedElementsTransitions(ParamsSource params) {
+        ParamsSource sharedElements = params.getMap("sharedElements");
         if (sharedElements == null) {
             return new ArrayList<>();
         }
@@ -72,7 +86,7 @@ public class ScreenParamsParser extends Parser {
         return result;
     }
 
-    private static Drawable getTabIcon(Bundle params) {
+    private static Drawable getTabIcon(ParamsSource params) {
         Drawable tabIcon = null;
         if (hasKey(params, "icon")) {
             tabIcon = ImageLoader.loadImage(params.getString("icon"));
@@ -80,7 +94,7 @@ public class ScreenParamsParser extends Parser {
         return tabIcon;
     }
 
-    private static String getTabLabel(Bundle params) {
+    private static String getTabLabel(ParamsSource params) {
         String tabLabel = null;
         if (hasKey(params, "label")) {
             tabLabel = params.getString("label");
@@ -88,18 +102,18 @@ public class ScreenParamsParser extends Parser {
         return tabLabel;
     }
 
-    private static List<PageParams> parseTopTabs(Bundle params) {
+    private static List<PageParams> parseTopTabs(ParamsSource params) {
         List<PageParams> topTabParams = null;
         if (hasKey(params, TOP_TABS)) {
-            topTabParams = new TopTabParamsParser().parse(params.getBundle(TOP_TABS));
+            topTabParams = new TopTabParamsParser().parse(params.getMap(TOP_TABS));
         }
         return topTabParams;
     }
 
-    List<ScreenParams> parseTabs(Bundle params) {
+    List<ScreenParams> parseTabs(ParamsSource params) {
         return parseBundle(params, new ParseStrategy<ScreenParams>() {
             @Override
-            public ScreenParams parse(Bundle screen) {
+            public ScreenParams parse(ParamsSource screen) {
                 return ScreenParamsParser.parse(screen);
             }
         });
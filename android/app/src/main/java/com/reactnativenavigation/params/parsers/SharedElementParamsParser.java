@@ -3,15 +3,15 @@ package com.reactnativenavigation.params.parsers;
 import android.os.Bundle;
 
 import com.facebook.react.bridge.ReadableMap;
-import com.reactnativenavigation.bridge.BundleConverter;
+import com.reactnativenavigation.params.ParamsSource;
 
 public class SharedElementParamsParser {
     private static final int DEFAULT_DURATION = 300;
 
     private int showDuration = DEFAULT_DURATION;
     private int hideDuration = DEFAULT_DURATION;
-    private Bundle showInterpolation = Bundle.EMPTY;
-    private Bundle hideInterpolation = Bundle.EMPTY;
+    private ParamsSource showInterpolation = ParamsSource.of(Bundle.EMPTY);
+    private ParamsSource hideInterpolation = ParamsSource.of(Bundle.EMPTY);
     public boolean animateClipBounds;
 
     public void setDuration(int duration) {
@@ -28,11 +28,11 @@ public class SharedElementParamsParser {
     }
 
     public void setShowInterpolation(ReadableMap showInterpolation) {
-        this.showInterpolation = BundleConverter.toBundle(showInterpolation);
+        this.showInterpolation = ParamsSource.of(showInterpolation);
     }
 
     public void setHideInterpolation(ReadableMap hideInterpolation) {
-        this.hideInterpolation = BundleConverter.toBundle(hideInterpolation);
+        this.hideInterpolation = ParamsSource.of(hideInterpolation);
     }
 
     public SharedElementTransitionParams parseShowTransitionParams() {
@@ -1,16 +1,15 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.NavigationParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.SlidingOverlayParams;
 
 public class SlidingOverlayParamsParser extends Parser {
 
-    public SlidingOverlayParams parse(Bundle bundle) {
+    public SlidingOverlayParams parse(ParamsSource bundle) {
         final SlidingOverlayParams result = new SlidingOverlayParams();
         result.screenInstanceId = bundle.getString("screen");
-        result.navigationParams = new NavigationParams(bundle.getBundle("navigationParams"));
+        result.navigationParams = new NavigationParams(bundle.getMap("navigationParams"));
         result.autoDismissTimerSec = bundle.containsKey("autoDismissTimerSec")
                 ? bundle.getInt("autoDismissTimerSec")
                 : null;
@@ -1,15 +1,15 @@
 package com.reactnativenavigation.params.parsers;
 
 import android.graphics.Color;
-import android.os.Bundle;
 import android.support.design.widget.Snackbar;
 
 import com.reactnativenavigation.params.AppStyle;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.SnackbarParams;
 import com.reactnativenavigation.params.StyleParams;
 
 public class SnackbarParamsParser extends Parser {
-    public SnackbarParams parse(Bundle params) {
+    public SnackbarParams parse(ParamsSource params) {
         SnackbarParams result = new SnackbarParams();
         result.text = params.getString("text");
         result.textColor = getColor(params, "textColor", new StyleParams.Color(Color.WHITE));
@@ -1,25 +1,57 @@
 package com.reactnativenavigation.params.parsers;
 
 import android.graphics.Color;
-import android.os.Bundle;
 
 import com.reactnativenavigation.params.AppStyle;
 import com.reactnativenavigation.params.Orientation;
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.StatusBarTextColorScheme;
 import com.reactnativenavigation.params.StyleParams;
 
+import java.util.HashSet;
+import java.util.Set;
+
 public class StyleParamsParser {
-    private Bundle params;
+    private ParamsSource params;
 
-    public StyleParamsParser(Bundle params) {
+    public StyleParamsParser(ParamsSource params) {
         this.params = params;
     }
 
+    public StyleParamsParser(Bundle params) {
+        this(params == null ? null : ParamsSource.of(params));
+    }
+
     public StyleParamsParser merge(Bundle b) {
-        params.putAll(b);
+        Bundle merged = params.toBundle();
+        merged.putAll(b);
+        params = ParamsSource.of(merged);
         return this;
     }
 
+    /**
+     * @return the keys of update whose values differ from the ones in params
+     */
+    public static Set<String> getChangedKeys(Bundle params, Bundle update) {
+        Set<String> result = new HashSet<>();
+        for (String key : update.keySet()) {
+            if (!params.containsKey(key) || !isEqual(params.get(key), update.get(key))) {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isEqual(Object a, Object b) {
+        if (a instanceof Bundle && b instanceof Bundle) {
+            Bundle first = (Bundle) a;
+            Bundle second = (Bundle) b;
+            return first.size() == second.size() && getChangedKeys(first, second).isEmpty();
+        }
+        return a == null ? b == null : a.equals(b);
+    }
+
     public StyleParams parse() {
         if (params == null) {
             return createDefaultStyleParams();
@@ -66,6 +98,9 @@ public class StyleParamsParser {
         result.selectedTopTabIndicatorHeight = getInt("selectedTopTabIndicatorHeight", getDefaultSelectedTopTabIndicatorHeight());
         result.selectedTopTabIndicatorColor = getColor("selectedTopTabIndicatorColor", getDefaultSelectedTopTabIndicatorColor());
         result.topTabsScrollable = getBoolean("topTabsScrollable", getDefaultTopTabsScrollable());
+        result.topTabsLazyLoad = getBoolean("topTabsLazyLoad", getDefaultTopTabsLazyLoad());
+        result.topTabsOffscreenPageLimit = getInt("topTabsOffscreenPageLimit", getDefaultTopTabsOffscreenPageLimit());
+        result.topTabsUnmountOffscreenPages = getBoolean("topTabsUnmountOffscreenPages", getDefaultTopTabsUnmountOffscreenPages());
 
         result.screenBackgroundColor = getColor("screenBackgroundColor", getDefaultScreenBackgroundColor());
 
@@ -91,16 +126,28 @@ public class StyleParamsParser {
         return result;
     }
 
+    /**
+     * Parses only the status bar, navigation bar and screen background keys into result, which keeps the merged params
+     */
+    public void parseScreenStyle(StyleParams result) {
+        result.params = params;
+        result.statusBarColor = getColor("statusBarColor", getDefaultStatusBarColor());
+        result.statusBarTextColorScheme = StatusBarTextColorScheme.fromString(params.getString("statusBarTextColorScheme"));
+        result.navigationBarColor = getColor("navigationBarColor", getDefaultNavigationColor());
+        result.screenBackgroundColor = getColor("screenBackgroundColor", getDefaultScreenBackgroundColor());
+    }
+
     private String getDefaultOrientation() {
         return AppStyle.appStyle == null ? null : AppStyle.appStyle.orientation.name;
     }
 
     private StyleParams createDefaultStyleParams() {
-        StyleParams result = new StyleParams(Bundle.EMPTY);
+        StyleParams result = new StyleParams(ParamsSource.of(Bundle.EMPTY));
         result.titleBarDisabledButtonColor = getTitleBarDisabledButtonColor();
         result.topBarElevationShadowEnabled = true;
         result.titleBarHideOnScroll = false;
         result.orientation = Orientation.auto;
+        result.topTabsOffscreenPageLimit = 1;
         result.bottomTabFontFamily = new StyleParams.Font();
         return result;
     }
@@ -193,6 +240,18 @@ public class StyleParamsParser {
         return AppStyle.appStyle != null && AppStyle.appStyle.topTabsScrollable;
     }
 
+    private boolean getDefaultTopTabsLazyLoad() {
+        return AppStyle.appStyle != null && AppStyle.appStyle.topTabsLazyLoad;
+    }
+
+    private int getDefaultTopTabsOffscreenPageLimit() {
+        return AppStyle.appStyle == null ? 1 : AppStyle.appStyle.topTabsOffscreenPageLimit;
+    }
+
+    private boolean getDefaultTopTabsUnmountOffscreenPages() {
+        return AppStyle.appStyle != null && AppStyle.appStyle.topTabsUnmountOffscreenPages;
+    }
+
     private StyleParams.Color getDefaultTopTabIconColor() {
         return AppStyle.appStyle == null ? new StyleParams.Color() : AppStyle.appStyle.topTabIconColor;
     }
@@ -280,6 +339,7 @@ public class StyleParamsParser {
     }
 
     private Bundle getBundle(String key) {
-        return params.containsKey(key) ? params.getBundle(key) : Bundle.EMPTY;
+        ParamsSource result = params.getMap(key);
+        return result == null ? Bundle.EMPTY : result.toBundle();
     }
 }
@@ -1,15 +1,15 @@
 package com.reactnativenavigation.params.parsers;
 
 import android.graphics.drawable.Drawable;
-import android.os.Bundle;
 
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.react.ImageLoader;
 
 class TabIconParser extends Parser {
 
-    private Bundle params;
+    private ParamsSource params;
 
-    TabIconParser(Bundle params) {
+    TabIconParser(ParamsSource params) {
         this.params = params;
     }
 
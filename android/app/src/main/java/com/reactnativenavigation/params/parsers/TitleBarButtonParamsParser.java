@@ -1,25 +1,24 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.reactnativenavigation.params.AppStyle;
 import com.reactnativenavigation.params.BaseTitleBarButtonParams;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.TitleBarButtonParams;
 import com.reactnativenavigation.react.ImageLoader;
 
 import java.util.List;
 
 public class TitleBarButtonParamsParser extends Parser {
-    public List<TitleBarButtonParams> parseButtons(Bundle params) {
+    public List<TitleBarButtonParams> parseButtons(ParamsSource params) {
         return parseBundle(params, new ParseStrategy<TitleBarButtonParams>() {
             @Override
-            public TitleBarButtonParams parse(Bundle button) {
+            public TitleBarButtonParams parse(ParamsSource button) {
                 return parseSingleButton(button);
             }
         });
     }
 
-    public TitleBarButtonParams parseSingleButton(Bundle bundle) {
+    public TitleBarButtonParams parseSingleButton(ParamsSource bundle) {
         TitleBarButtonParams result = new TitleBarButtonParams();
         result.label = bundle.getString("title");
         if (hasKey(bundle, "icon")) {
@@ -1,13 +1,12 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
-
 import com.balysv.materialmenu.MaterialMenuDrawable;
+import com.reactnativenavigation.params.ParamsSource;
 import com.reactnativenavigation.params.TitleBarLeftButtonParams;
 
 public class TitleBarLeftButtonParamsParser extends TitleBarButtonParamsParser {
 
-    public TitleBarLeftButtonParams parseSingleButton(Bundle params) {
+    public TitleBarLeftButtonParams parseSingleButton(ParamsSource params) {
         TitleBarLeftButtonParams leftButtonParams = new TitleBarLeftButtonParams(super.parseSingleButton(params));
         if (params.isEmpty()) {
             return leftButtonParams;
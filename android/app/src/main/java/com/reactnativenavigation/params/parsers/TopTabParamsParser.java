@@ -1,10 +1,10 @@
 package com.reactnativenavigation.params.parsers;
 
-import android.os.Bundle;
 import android.support.annotation.NonNull;
 
 import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.params.PageParams;
+import com.reactnativenavigation.params.ParamsSource;
 
 import java.util.List;
 
@@ -14,26 +14,26 @@ class TopTabParamsParser extends Parser {
     private static final String NAVIGATION_PARAMS = "navigationParams";
 
     @SuppressWarnings("ConstantConditions")
-    public List<PageParams> parse(Bundle params) {
+    public List<PageParams> parse(ParamsSource params) {
         return parseBundle(params, new ParseStrategy<PageParams>() {
             @Override
-            public PageParams parse(Bundle topTabs) {
+            public PageParams parse(ParamsSource topTabs) {
                 return parseItem(topTabs);
             }
         });
     }
 
     @NonNull
-    private static PageParams parseItem(Bundle params) {
+    private static PageParams parseItem(ParamsSource params) {
         PageParams result = new PageParams();
         result.screenId = params.getString(KEY_SCREEN_ID);
         result.title = params.getString(KEY_TITLE);
         result.tabIcon = new TabIconParser(params).parse();
-        result.navigationParams = new NavigationParams(params.getBundle(NAVIGATION_PARAMS));
+        result.navigationParams = new NavigationParams(params.getMap(NAVIGATION_PARAMS));
         result.leftButton = ButtonParser.parseLeftButton(params);
         result.rightButtons = ButtonParser.parseRightButton(params);
         result.fabParams = ButtonParser.parseFab(params, result.navigationParams.navigatorEventId, result.navigationParams.screenInstanceId);
-        result.styleParams = new StyleParamsParser(params.getBundle("styleParams")).parse();
+        result.styleParams = new StyleParamsParser(params.getMap("styleParams")).parse();
         return result;
     }
 }
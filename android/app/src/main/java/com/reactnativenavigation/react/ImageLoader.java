@@ -5,32 +5,96 @@ import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
 import android.net.Uri;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
 
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.utils.ViewUtils;
 
+/**
+ * Icons are decoded at the size they are displayed in and cached, so parsing the same buttons or tabs
+ * again doesn't decode them again. Every call returns a new Drawable since icons are tinted in place.
+ */
 public class ImageLoader {
     private static final String FILE_SCHEME = "file";
+    private static final int ICON_SIZE_DP = 24;
+    private static final int MAX_CACHE_SIZE_BYTES = 4 * 1024 * 1024;
+
+    private static final LruCache<String, Bitmap> cache = new LruCache<String, Bitmap>(getCacheSize()) {
+        @Override
+        protected int sizeOf(String key, Bitmap bitmap) {
+            return bitmap.getByteCount();
+        }
+    };
 
     public static Drawable loadImage(String iconSource) {
-        if (NavigationApplication.instance.isDebug()) {
-            return JsDevImageLoader.loadIcon(iconSource);
-        } else {
-            Uri uri = Uri.parse(iconSource);
-            if (isLocalFile(uri)) {
-                return loadFile(uri);
-            } else {
-                return loadResource(iconSource);
+        return loadImage(iconSource, ICON_SIZE_DP);
+    }
+
+    public static Drawable loadImage(String iconSource, int sizeDp) {
+        Uri uri = Uri.parse(iconSource);
+        boolean isDebug = NavigationApplication.instance.isDebug();
+        if (!isDebug && !isLocalFile(uri)) {
+            return loadResource(iconSource);
+        }
+        int size = (int) ViewUtils.convertDpToPixel(sizeDp);
+        String key = iconSource + "@" + size;
+        Bitmap bitmap = cache.get(key);
+        if (bitmap == null) {
+            bitmap = isDebug ? JsDevImageLoader.loadIcon(iconSource, size) : decodeFile(uri.getPath(), size);
+            if (bitmap == null) {
+                return new BitmapDrawable(NavigationApplication.instance.getResources(), (Bitmap) null);
             }
+            cache.put(key, bitmap);
         }
+        return new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
     }
 
-    private static boolean isLocalFile(Uri uri) {
-        return FILE_SCHEME.equals(uri.getScheme());
+    /**
+     * @return number of bytes held by the evicted icons
+     */
+    public static int clearCache() {
+        int size = cache.size();
+        cache.evictAll();
+        return size;
     }
 
-    private static Drawable loadFile(Uri uri) {
-        Bitmap bitmap = BitmapFactory.decodeFile(uri.getPath());
-        return new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
+    static Bitmap decodeByteArray(byte[] data, int size) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(data, 0, data.length, options);
+        options.inSampleSize = calculateInSampleSize(options, size);
+        options.inJustDecodeBounds = false;
+        return BitmapFactory.decodeByteArray(data, 0, data.length, options);
+    }
+
+    @Nullable
+    private static Bitmap decodeFile(String path, int size) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(path, options);
+        options.inSampleSize = calculateInSampleSize(options, size);
+        options.inJustDecodeBounds = false;
+        return BitmapFactory.decodeFile(path, options);
+    }
+
+    /**
+     * Largest power of two which keeps both dimensions at least as big as the requested size
+     */
+    private static int calculateInSampleSize(BitmapFactory.Options options, int size) {
+        int inSampleSize = 1;
+        while (options.outWidth / (inSampleSize * 2) >= size && options.outHeight / (inSampleSize * 2) >= size) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    private static int getCacheSize() {
+        return (int) Math.min(MAX_CACHE_SIZE_BYTES, Runtime.getRuntime().maxMemory() / 32);
+    }
+
+    private static boolean isLocalFile(Uri uri) {
+        return FILE_SCHEME.equals(uri.getScheme());
     }
 
     private static Drawable loadResource(String iconSource) {
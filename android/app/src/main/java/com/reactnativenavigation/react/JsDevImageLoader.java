@@ -1,39 +1,48 @@
 package com.reactnativenavigation.react;
 
 import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.graphics.drawable.BitmapDrawable;
-import android.graphics.drawable.Drawable;
 import android.os.StrictMode;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.util.Log;
 
-import com.reactnativenavigation.NavigationApplication;
-
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 public class JsDevImageLoader {
     private static final String TAG = "JsDevImageLoader";
-    public static Drawable loadIcon(String iconDevUri) {
+
+    @Nullable
+    static Bitmap loadIcon(String iconDevUri, int size) {
         try {
             StrictMode.ThreadPolicy threadPolicy = StrictMode.getThreadPolicy();
             StrictMode.setThreadPolicy(new StrictMode.ThreadPolicy.Builder().permitNetwork().build());
 
-            Drawable drawable = tryLoadIcon(iconDevUri);
+            Bitmap bitmap = ImageLoader.decodeByteArray(download(iconDevUri), size);
 
             StrictMode.setThreadPolicy(threadPolicy);
-            return drawable;
+            return bitmap;
         } catch (Exception e) {
             Log.e(TAG, "Unable to load icon: " + iconDevUri);
-            return new BitmapDrawable();
+            return null;
         }
     }
 
     @NonNull
-    private static Drawable tryLoadIcon(String iconDevUri) throws IOException {
-        URL url = new URL(iconDevUri);
-        Bitmap bitmap = BitmapFactory.decodeStream(url.openStream());
-        return new BitmapDrawable(NavigationApplication.instance.getResources(), bitmap);
+    private static byte[] download(String iconDevUri) throws IOException {
+        InputStream stream = new URL(iconDevUri).openStream();
+        try {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                result.write(buffer, 0, read);
+            }
+            return result.toByteArray();
+        } finally {
+            stream.close();
+        }
     }
 }
@@ -154,6 +154,7 @@ public class NavigationReactGateway implements ReactGateway {
 			new JsDevReloadListenerReplacer(manager, new JsDevReloadListenerReplacer.Listener() {
 				@Override
 				public void onJsDevReload() {
+					ImageLoader.clearCache();
 					EventBus.instance.post(new JsDevReloadEvent());
 				}
 			}).replace();
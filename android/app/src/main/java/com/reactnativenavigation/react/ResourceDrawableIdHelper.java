@@ -6,8 +6,8 @@ import android.net.Uri;
 
 import com.facebook.common.util.UriUtil;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -21,7 +21,7 @@ public class ResourceDrawableIdHelper {
     private Map<String, Integer> mResourceDrawableIdMap;
 
     public ResourceDrawableIdHelper() {
-        mResourceDrawableIdMap = new HashMap<>();
+        mResourceDrawableIdMap = new ConcurrentHashMap<>();
     }
 
     public int getResourceDrawableId(Context context, @Nullable String name) {
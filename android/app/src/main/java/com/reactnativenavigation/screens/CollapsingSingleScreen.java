@@ -1,5 +1,6 @@
 package com.reactnativenavigation.screens;
 
+import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.view.MotionEvent;
 import android.widget.ScrollView;
@@ -58,7 +59,9 @@ public class CollapsingSingleScreen extends SingleScreen {
     }
 
     private void setupCollapseDetection(final CollapsingTopBar topBar) {
-        ((CollapsingContentView) contentView).setupCollapseDetection(getScrollListener(topBar), new OnScrollViewAddedListener() {
+        ScrollListener scrollListener = getScrollListener(topBar);
+        scrollListener.getScrollOffsetTracker().setContentFollowsTopBar(screenParams.styleParams.drawScreenBelowTopBar);
+        ((CollapsingContentView) contentView).setupCollapseDetection(scrollListener, new OnScrollViewAddedListener() {
             @Override
             public void onScrollViewAdded(ScrollView scrollView) {
                 topBar.onScrollViewAdded(scrollView);
@@ -70,9 +73,11 @@ public class CollapsingSingleScreen extends SingleScreen {
         return new ScrollListener(new CollapseCalculator(topBar, getCollapseBehaviour()),
                 new OnScrollListener() {
                     @Override
-                    public void onScroll(MotionEvent event, CollapseAmount amount) {
+                    public void onScroll(@Nullable MotionEvent event, CollapseAmount amount) {
                         if (screenParams.styleParams.drawScreenBelowTopBar) {
-                            RootViewUtil.getRootView(contentView).onChildStartedNativeGesture(event);
+                            if (event != null) {
+                                RootViewUtil.getRootView(contentView).onChildStartedNativeGesture(event);
+                            }
                             ((CollapsingView) contentView).collapse(amount);
                         }
                         topBar.collapse(amount);
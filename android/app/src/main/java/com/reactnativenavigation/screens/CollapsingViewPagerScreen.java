@@ -2,12 +2,14 @@ package com.reactnativenavigation.screens;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.support.annotation.Nullable;
 import android.support.v4.view.ViewPager;
 import android.support.v7.app.AppCompatActivity;
 import android.view.MotionEvent;
 import android.widget.ScrollView;
 
 import com.facebook.react.uimanager.RootViewUtil;
+import com.reactnativenavigation.events.ContextualMenuHiddenEvent;
 import com.reactnativenavigation.events.Event;
 import com.reactnativenavigation.events.ViewPagerScreenChangedEvent;
 import com.reactnativenavigation.events.ViewPagerScreenScrollStartEvent;
@@ -60,6 +62,7 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
 
     private void setupCollapseDetection(CollapsingContentView contentView) {
         ScrollListener scrollListener = getScrollListener((CollapsingView) topBar);
+        scrollListener.getScrollOffsetTracker().setContentFollowsTopBar(true);
         contentView.setupCollapseDetection(scrollListener, new OnScrollViewAddedListener() {
             @Override
             public void onScrollViewAdded(ScrollView scrollView) {
@@ -72,8 +75,10 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
         return new ScrollListener(new CollapseCalculator(topBar, getCollapseBehaviour()),
                 new OnScrollListener() {
                     @Override
-                    public void onScroll(MotionEvent event, CollapseAmount amount) {
-                        RootViewUtil.getRootView(getCurrentPage()).onChildStartedNativeGesture(event);
+                    public void onScroll(@Nullable MotionEvent event, CollapseAmount amount) {
+                        if (event != null) {
+                            RootViewUtil.getRootView(getCurrentPage()).onChildStartedNativeGesture(event);
+                        }
                         topBar.collapse(amount);
                         ((CollapsingView) viewPager).collapse(amount);
                     }
@@ -92,13 +97,18 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
         return screenParams.styleParams.collapsingTopBarParams.collapseBehaviour;
     }
 
+    @Override
+    protected String[] getSubscribedEventTypes() {
+        return new String[] {ContextualMenuHiddenEvent.TYPE, ViewPagerScreenChangedEvent.TYPE, ViewPagerScreenScrollStartEvent.TYPE};
+    }
+
     @Override
     public void onEvent(Event event) {
         super.onEvent(event);
         if (ViewPagerScreenScrollStartEvent.TYPE.equals(event.getType()) || ViewPagerScreenChangedEvent.TYPE.equals(event.getType())) {
             if (screenParams.styleParams.collapsingTopBarParams.expendOnTopTabChange) {
-                ((CollapsingView) topBar).collapse(new CollapseAmount(CollapseCalculator.Direction.Down));
-                ((CollapsingView) viewPager).collapse(new CollapseAmount(CollapseCalculator.Direction.Down));
+                ((CollapsingView) topBar).collapse(CollapseAmount.Down);
+                ((CollapsingView) viewPager).collapse(CollapseAmount.Down);
             }
         }
     }
@@ -114,7 +124,13 @@ public class CollapsingViewPagerScreen extends ViewPagerScreen {
         topBar.destroy();
     }
 
+    @Override
+    protected void destroyPage(ContentView page) {
+        super.destroyPage(page);
+        ((CollapsingContentView) page).destroy();
+    }
+
     protected ContentView getCurrentPage() {
-        return (ContentView) viewPager.getChildAt(viewPager.getCurrentItem());
+        return getContentView();
     }
 }
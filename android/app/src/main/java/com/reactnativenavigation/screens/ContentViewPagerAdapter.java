@@ -18,23 +18,33 @@ import com.reactnativenavigation.views.ContentView;
 import java.util.List;
 
 class ContentViewPagerAdapter extends PagerAdapter implements ViewPager.OnPageChangeListener {
-    private List<ContentView> contentViews;
+    private ViewPagerScreen screen;
     private List<PageParams> pageParams;
     private int currentPosition = 0;
 
-    ContentViewPagerAdapter(List<ContentView> contentViews, List<PageParams> pageParams) {
-        this.contentViews = contentViews;
+    ContentViewPagerAdapter(ViewPagerScreen screen, List<PageParams> pageParams) {
+        this.screen = screen;
         this.pageParams = pageParams;
     }
 
     @Override
     public Object instantiateItem(ViewGroup container, int position) {
-        return contentViews.get(position);
+        ContentView page = screen.getPage(position);
+        if (page.getParent() == null) {
+            container.addView(page);
+        }
+        return page;
+    }
+
+    @Override
+    public void destroyItem(ViewGroup container, int position, Object object) {
+        container.removeView((View) object);
+        screen.onPageDestroyed(position);
     }
 
     @Override
     public int getCount() {
-        return contentViews.size();
+        return pageParams.size();
     }
 
     @Override
@@ -86,7 +96,7 @@ class ContentViewPagerAdapter extends PagerAdapter implements ViewPager.OnPageCh
 
     private void sendTabSelectedEventToJs() {
         WritableMap data = Arguments.createMap();
-        String navigatorEventId = contentViews.get(currentPosition).getNavigatorEventId();
+        String navigatorEventId = pageParams.get(currentPosition).navigationParams.navigatorEventId;
         NavigationApplication.instance.getEventEmitter().sendNavigatorEvent("tabSelected", navigatorEventId, data);
     }
 }
@@ -35,13 +35,24 @@ import com.reactnativenavigation.views.TopBar;
 import com.reactnativenavigation.views.sharedElementTransition.SharedElementTransition;
 import com.reactnativenavigation.views.sharedElementTransition.SharedElements;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static android.view.ViewGroup.LayoutParams.MATCH_PARENT;
 import static android.view.ViewGroup.LayoutParams.WRAP_CONTENT;
 
 public abstract class Screen extends RelativeLayout implements Subscriber {
+    private static final String KEY_STATUS_BAR_COLOR = "statusBarColor";
+    private static final String KEY_STATUS_BAR_TEXT_COLOR_SCHEME = "statusBarTextColorScheme";
+    private static final String KEY_NAVIGATION_BAR_COLOR = "navigationBarColor";
+    private static final String KEY_SCREEN_BACKGROUND_COLOR = "screenBackgroundColor";
+    private static final String KEY_TITLE_BAR_BUTTON_COLOR = "titleBarButtonColor";
+    private static final Set<String> SCREEN_STYLE_KEYS = new HashSet<>(Arrays.asList(
+            KEY_STATUS_BAR_COLOR, KEY_STATUS_BAR_TEXT_COLOR_SCHEME, KEY_NAVIGATION_BAR_COLOR, KEY_SCREEN_BACKGROUND_COLOR));
 
     public interface OnDisplayListener {
         void onDisplay();
@@ -54,6 +65,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     private ScreenAnimator screenAnimator;
     protected StyleParams styleParams;
     public final SharedElements sharedElements;
+    private boolean isHibernated = false;
 
     public Screen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener leftButtonOnClickListener) {
         super(activity);
@@ -63,7 +75,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         this.leftButtonOnClickListener = leftButtonOnClickListener;
         screenAnimator = new ScreenAnimator(this);
         createViews();
-        EventBus.instance.register(this);
+        EventBus.instance.register(this, getSubscribedEventTypes());
         sharedElements = new SharedElements();
     }
 
@@ -77,6 +89,13 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         setStyle();
     }
 
+    /**
+     * Only ViewPagerScreens post ViewPagerScreenChangedEvent, so plain screens don't subscribe to it
+     */
+    protected String[] getSubscribedEventTypes() {
+        return new String[] {ContextualMenuHiddenEvent.TYPE};
+    }
+
     @Override
     public void onEvent(Event event) {
         if (ContextualMenuHiddenEvent.TYPE.equals(event.getType()) && isShown()) {
@@ -90,18 +109,58 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     }
 
     public void updateVisibleScreenStyle(Bundle styleParams) {
-        updateStyle(styleParams);
-        setStyle();
+        Set<String> changedKeys = updateStyle(styleParams);
+        if (!changedKeys.isEmpty()) {
+            setStyle(changedKeys);
+        }
     }
 
     public void updateInvisibleScreenStyle(Bundle styleParams) {
         updateStyle(styleParams);
     }
 
-    private void updateStyle(Bundle styleParams) {
-        screenParams.styleParams = new StyleParamsParser(screenParams.styleParams.params).merge(styleParams).parse();
+    /**
+     * Only the screen level fields are parsed again when nothing else changed, otherwise the merged style is parsed.
+     */
+    private Set<String> updateStyle(Bundle styleParams) {
+        Bundle currentStyle = screenParams.styleParams.params.toBundle();
+        Set<String> changedKeys = StyleParamsParser.getChangedKeys(currentStyle, styleParams);
+        if (changedKeys.isEmpty()) {
+            return changedKeys;
+        }
+        StyleParamsParser parser = new StyleParamsParser(currentStyle).merge(styleParams);
+        if (SCREEN_STYLE_KEYS.containsAll(changedKeys)) {
+            parser.parseScreenStyle(screenParams.styleParams);
+        } else {
+            screenParams.styleParams = parser.parse();
+        }
         this.styleParams = screenParams.styleParams;
-        topBar.setButtonColor(this.styleParams);
+        if (changedKeys.contains(KEY_TITLE_BAR_BUTTON_COLOR)) {
+            topBar.setButtonColor(this.styleParams);
+        }
+        return changedKeys;
+    }
+
+    /**
+     * Applies only the parts of the style affected by the given keys. Any key which isn't a screen level
+     * style is assumed to affect the TopBar.
+     */
+    private void setStyle(Set<String> changedKeys) {
+        if (changedKeys.contains(KEY_STATUS_BAR_COLOR)) {
+            setStatusBarColor(styleParams.statusBarColor);
+        }
+        if (changedKeys.contains(KEY_STATUS_BAR_TEXT_COLOR_SCHEME)) {
+            setStatusBarTextColorScheme(styleParams.statusBarTextColorScheme);
+        }
+        if (changedKeys.contains(KEY_NAVIGATION_BAR_COLOR)) {
+            setNavigationBarColor(styleParams.navigationBarColor);
+        }
+        if (changedKeys.contains(KEY_SCREEN_BACKGROUND_COLOR) && styleParams.screenBackgroundColor.hasColor()) {
+            setBackgroundColor(styleParams.screenBackgroundColor.getColor());
+        }
+        if (!SCREEN_STYLE_KEYS.containsAll(changedKeys)) {
+            topBar.setStyle(styleParams);
+        }
     }
 
     public void setStyle() {
@@ -213,6 +272,10 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         return screenParams.getScreenInstanceId();
     }
 
+    public List<String> getScreenInstanceIds() {
+        return Collections.singletonList(screenParams.getScreenInstanceId());
+    }
+
     public boolean hasScreenInstance(String screenInstanceId) {
         return screenParams.getScreenInstanceId().equals(screenInstanceId);
     }
@@ -229,20 +292,28 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     }
 
     public void setTitleBarTitle(String title) {
-       topBar.setTitle(title, styleParams);
+        screenParams.title = title;
+        topBar.setTitle(title, styleParams);
     }
 
     public void setTitleBarSubtitle(String subtitle) {
+        screenParams.subtitle = subtitle;
         topBar.setSubtitle(subtitle);
     }
 
     public void setTitleBarRightButtons(String navigatorEventId, List<TitleBarButtonParams> titleBarButtons) {
+        if (screenParams.getNavigatorEventId().equals(navigatorEventId)) {
+            screenParams.rightButtons = titleBarButtons;
+        }
         setButtonColorFromScreen(titleBarButtons);
         topBar.setTitleBarRightButtons(navigatorEventId, titleBarButtons);
     }
 
     public void setTitleBarLeftButton(String navigatorEventId, LeftButtonOnClickListener backButtonListener,
                                       TitleBarLeftButtonParams titleBarLeftButtonParams) {
+        if (screenParams.getNavigatorEventId().equals(navigatorEventId)) {
+            screenParams.leftButton = titleBarLeftButtonParams;
+        }
         titleBarLeftButtonParams.setStyleFromScreen(styleParams);
         topBar.setTitleBarLeftButton(navigatorEventId,
                 backButtonListener,
@@ -276,12 +347,12 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     public void show(NavigationType type) {
         NavigationApplication.instance.getEventEmitter().sendWillAppearEvent(getScreenParams(), type);
         NavigationApplication.instance.getEventEmitter().sendDidAppearEvent(getScreenParams(), type);
-        screenAnimator.show(screenParams.animateScreenTransitions);
+        screenAnimator.show(screenParams.animateScreenTransitions, type);
     }
 
     public void show(boolean animated, final NavigationType type) {
         NavigationApplication.instance.getEventEmitter().sendWillAppearEvent(getScreenParams(), type);
-        screenAnimator.show(animated, new Runnable() {
+        screenAnimator.show(animated, type, new Runnable() {
             @Override
             public void run() {
                 NavigationApplication.instance.getEventEmitter().sendDidAppearEvent(getScreenParams(), type);
@@ -292,7 +363,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
     public void show(boolean animated, final Runnable onAnimationEnd, final NavigationType type) {
         NavigationApplication.instance.getEventEmitter().sendWillAppearEvent(getScreenParams(), type);
         setStyle();
-        screenAnimator.show(animated, new Runnable() {
+        screenAnimator.show(animated, type, new Runnable() {
             @Override
             public void run() {
                 NavigationApplication.instance.getEventEmitter().sendDidAppearEvent(getScreenParams(), type);
@@ -345,7 +416,7 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
 
     private void hide(boolean animated, final Runnable onAnimatedEnd, final NavigationType type) {
         NavigationApplication.instance.getEventEmitter().sendWillDisappearEvent(getScreenParams(), type);
-        screenAnimator.hide(animated, new Runnable() {
+        screenAnimator.hide(animated, type, new Runnable() {
             @Override
             public void run() {
                 NavigationApplication.instance.getEventEmitter().sendDidDisappearEvent(getScreenParams(), type);
@@ -363,7 +434,22 @@ public abstract class Screen extends RelativeLayout implements Subscriber {
         topBar.dismissContextualMenu();
     }
 
+    /**
+     * Unmounts the React views of a screen which is deep in its stack. The screen keeps its params,
+     * which are kept up to date by the setters above, so it can be re-created before it's revealed.
+     */
+    void hibernate() {
+        if (isHibernated) return;
+        isHibernated = true;
+        unmountReactView();
+    }
+
+    boolean isHibernated() {
+        return isHibernated;
+    }
+
     public void destroy() {
+        ScreenRegistry.instance.unregister(this);
         unmountReactView();
         EventBus.instance.unregister(this);
         sharedElements.destroy();
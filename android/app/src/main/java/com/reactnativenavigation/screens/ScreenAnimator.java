@@ -4,12 +4,22 @@ import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.AnimatorSet;
 import android.animation.ObjectAnimator;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.BitmapDrawable;
+import android.os.Build;
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.animation.AccelerateInterpolator;
 import android.view.animation.DecelerateInterpolator;
 import android.view.animation.LinearInterpolator;
+import android.widget.ImageView;
 import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.animation.TransitionFrameMonitor;
+import com.reactnativenavigation.animation.TransitionMode;
+import com.reactnativenavigation.utils.NavigationTracer;
 import com.reactnativenavigation.utils.ViewUtils;
+import com.reactnativenavigation.views.sharedElementTransition.OverlaySharedElementsAnimator;
 import com.reactnativenavigation.views.sharedElementTransition.SharedElementsAnimator;
 
 import javax.annotation.Nullable;
@@ -17,6 +27,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 class ScreenAnimator {
+    private static final String SHARED_ELEMENT_SHOW = "SharedElementShow";
+    private static final String SHARED_ELEMENT_HIDE = "SharedElementHide";
+
     private final float translationY;
     private final float translationX;
     private Screen screen;
@@ -27,33 +40,33 @@ class ScreenAnimator {
         translationX = 0.08f * ViewUtils.getWindowWidth(screen.activity);
     }
 
-    public void show(boolean animate, final Runnable onAnimationEnd) {
+    public void show(boolean animate, NavigationType type, final Runnable onAnimationEnd) {
         if (animate) {
-            createShowAnimator(onAnimationEnd).start();
+            createShowAnimator(type, onAnimationEnd).start();
         } else {
             screen.setVisibility(View.VISIBLE);
             NavigationApplication.instance.runOnMainThread(onAnimationEnd, 200);
         }
     }
 
-    public void show(boolean animate) {
+    public void show(boolean animate, NavigationType type) {
         if (animate) {
-            createShowAnimator(null).start();
+            createShowAnimator(type, null).start();
         } else {
             screen.setVisibility(View.VISIBLE);
         }
     }
 
-    public void hide(boolean animate, Runnable onAnimationEnd) {
+    public void hide(boolean animate, NavigationType type, Runnable onAnimationEnd) {
         if (animate) {
-            createHideAnimator(onAnimationEnd).start();
+            createHideAnimator(type, onAnimationEnd).start();
         } else {
             screen.setVisibility(View.INVISIBLE);
             onAnimationEnd.run();
         }
     }
 
-    private Animator createShowAnimator(final @Nullable Runnable onAnimationEnd) {
+    private Animator createShowAnimator(NavigationType type, final @Nullable Runnable onAnimationEnd) {
         ObjectAnimator alpha = ObjectAnimator.ofFloat(screen, View.ALPHA, 0, 1);
         alpha.setInterpolator(new DecelerateInterpolator());
         alpha.setDuration(200);
@@ -95,11 +108,22 @@ class ScreenAnimator {
                 }
             }
         });
+        TransitionMode mode = getTransitionMode();
+        if (mode != TransitionMode.Default) {
+            set.addListener(createHardwareLayerListener(screen));
+        }
+        set.addListener(createTransitionListener("showAnimation", getTransitionType(type, mode)));
         return set;
     }
 
-    private Animator createHideAnimator(final Runnable onAnimationEnd) {
-        ObjectAnimator alpha = ObjectAnimator.ofFloat(screen, View.ALPHA, 0);
+    private Animator createHideAnimator(NavigationType type, final Runnable onAnimationEnd) {
+        TransitionMode mode = getTransitionMode();
+        final ImageView snapshot = mode == TransitionMode.Snapshot ? replaceWithSnapshot() : null;
+        if (mode == TransitionMode.Snapshot && snapshot == null) {
+            mode = TransitionMode.HardwareLayer;
+        }
+        View animatedView = snapshot == null ? screen : snapshot;
+        ObjectAnimator alpha = ObjectAnimator.ofFloat(animatedView, View.ALPHA, 0);
         alpha.setInterpolator(new LinearInterpolator());
         alpha.setStartDelay(100);
         alpha.setDuration(150);
@@ -111,7 +135,7 @@ class ScreenAnimator {
                 break;
             }
             case "slide-horizontal": {
-                ObjectAnimator translationX = ObjectAnimator.ofFloat(screen, View.TRANSLATION_X, this.translationX);
+                ObjectAnimator translationX = ObjectAnimator.ofFloat(animatedView, View.TRANSLATION_X, this.translationX);
                 translationX.setInterpolator(new AccelerateInterpolator());
                 translationX.setDuration(250);
 
@@ -119,7 +143,7 @@ class ScreenAnimator {
                 break;
             }
             default: {
-                ObjectAnimator translationY = ObjectAnimator.ofFloat(screen, View.TRANSLATION_Y, this.translationY);
+                ObjectAnimator translationY = ObjectAnimator.ofFloat(animatedView, View.TRANSLATION_Y, this.translationY);
                 translationY.setInterpolator(new AccelerateInterpolator());
                 translationY.setDuration(250);
 
@@ -131,21 +155,119 @@ class ScreenAnimator {
         set.addListener(new AnimatorListenerAdapter() {
             @Override
             public void onAnimationEnd(Animator animation) {
+                if (snapshot != null) {
+                    removeSnapshot(snapshot);
+                }
                 onAnimationEnd.run();
             }
         });
+        if (mode == TransitionMode.HardwareLayer) {
+            set.addListener(createHardwareLayerListener(screen));
+        }
+        set.addListener(createTransitionListener("hideAnimation", getTransitionType(type, mode)));
         return set;
     }
 
+    private TransitionMode getTransitionMode() {
+        return NavigationApplication.instance.getTransitionMode(screen.screenParams.animationType);
+    }
+
+    private static String getTransitionType(NavigationType type, TransitionMode mode) {
+        return mode == TransitionMode.Default ? String.valueOf(type) : type + ":" + mode;
+    }
+
+    private static Animator.AnimatorListener createHardwareLayerListener(final View view) {
+        return new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animation) {
+                view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                view.setLayerType(View.LAYER_TYPE_NONE, null);
+            }
+        };
+    }
+
+    /**
+     * Draws the screen into a bitmap shown in its place and hides the screen, so its view tree isn't
+     * laid out or drawn while it's animated out.
+     * @return the view showing the snapshot, or null if the screen wasn't laid out yet, in which case the screen
+     * is animated on a hardware layer instead
+     */
+    @Nullable
+    private ImageView replaceWithSnapshot() {
+        ViewGroup parent = (ViewGroup) screen.getParent();
+        if (parent == null || screen.getWidth() == 0 || screen.getHeight() == 0) {
+            return null;
+        }
+        Bitmap bitmap = Bitmap.createBitmap(screen.getWidth(), screen.getHeight(), Bitmap.Config.ARGB_8888);
+        screen.draw(new Canvas(bitmap));
+        ImageView snapshot = new ImageView(screen.getContext());
+        snapshot.setImageBitmap(bitmap);
+        snapshot.setTranslationX(screen.getTranslationX());
+        snapshot.setTranslationY(screen.getTranslationY());
+        snapshot.setAlpha(screen.getAlpha());
+        parent.addView(snapshot, parent.indexOfChild(screen) + 1, new ViewGroup.LayoutParams(screen.getWidth(), screen.getHeight()));
+        screen.setVisibility(View.INVISIBLE);
+        return snapshot;
+    }
+
+    private void removeSnapshot(ImageView snapshot) {
+        ((ViewGroup) snapshot.getParent()).removeView(snapshot);
+        Bitmap bitmap = ((BitmapDrawable) snapshot.getDrawable()).getBitmap();
+        snapshot.setImageDrawable(null);
+        bitmap.recycle();
+    }
+
+    /**
+     * Traces the animation and monitors its frames as a transition of the given type
+     */
+    private Animator.AnimatorListener createTransitionListener(final String name, final String transitionType) {
+        return new AnimatorListenerAdapter() {
+            private NavigationTracer.Span span;
+            private TransitionFrameMonitor.Transition transition;
+
+            @Override
+            public void onAnimationStart(Animator animation) {
+                span = NavigationTracer.instance.beginAsync(name).setScreenInstanceId(screen.getScreenInstanceId());
+                transition = TransitionFrameMonitor.instance.start(transitionType, screen.getScreenParams().screenId);
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                if (span != null) {
+                    span.end();
+                    transition.end();
+                }
+            }
+        };
+    }
+
+    private Runnable monitorUntil(String name, String transitionType, final Runnable onAnimationEnd) {
+        final NavigationTracer.Span span = NavigationTracer.instance.beginAsync(name).setScreenInstanceId(screen.getScreenInstanceId());
+        final TransitionFrameMonitor.Transition transition = TransitionFrameMonitor.instance.start(transitionType, screen.getScreenParams().screenId);
+        return new Runnable() {
+            @Override
+            public void run() {
+                span.end();
+                transition.end();
+                onAnimationEnd.run();
+            }
+        };
+    }
+
     void showWithSharedElementsTransitions(Runnable onAnimationEnd) {
         hideContentViewAndTopBar();
         screen.setVisibility(View.VISIBLE);
-        new SharedElementsAnimator(this.screen.sharedElements).show(new Runnable() {
+        SharedElementsAnimator animator = createSharedElementsAnimator();
+        animator.show(new Runnable() {
             @Override
             public void run() {
                 animateContentViewAndTopBar(1, 280);
             }
-        }, onAnimationEnd);
+        }, monitorUntil("showSharedElements", getTransitionType(SHARED_ELEMENT_SHOW, animator), onAnimationEnd));
     }
 
     private void hideContentViewAndTopBar() {
@@ -156,12 +278,24 @@ class ScreenAnimator {
     }
 
     void hideWithSharedElementsTransition(Runnable onAnimationEnd) {
-        new SharedElementsAnimator(screen.sharedElements).hide(new Runnable() {
+        SharedElementsAnimator animator = createSharedElementsAnimator();
+        animator.hide(new Runnable() {
             @Override
             public void run() {
                 animateContentViewAndTopBar(0, 200);
             }
-        }, onAnimationEnd);
+        }, monitorUntil("hideSharedElements", getTransitionType(SHARED_ELEMENT_HIDE, animator), onAnimationEnd));
+    }
+
+    private SharedElementsAnimator createSharedElementsAnimator() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 && NavigationApplication.instance.isSharedElementOverlayEnabled()) {
+            return new OverlaySharedElementsAnimator(screen, screen.sharedElements);
+        }
+        return new SharedElementsAnimator(screen.sharedElements);
+    }
+
+    private static String getTransitionType(String type, SharedElementsAnimator animator) {
+        return animator instanceof OverlaySharedElementsAnimator ? type + ":Overlay" : type;
     }
 
     private void animateContentViewAndTopBar(int alpha, int duration) {
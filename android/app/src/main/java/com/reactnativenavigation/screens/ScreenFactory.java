@@ -3,12 +3,25 @@ package com.reactnativenavigation.screens;
 import android.support.v7.app.AppCompatActivity;
 
 import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.utils.NavigationTracer;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 
 class ScreenFactory {
     static Screen create(AppCompatActivity activity,
                          ScreenParams screenParams,
                          LeftButtonOnClickListener leftButtonOnClickListener) {
+        NavigationTracer.Span span = NavigationTracer.instance.begin("createScreen")
+                .setScreenInstanceId(screenParams.getScreenInstanceId());
+        try {
+            return createScreen(activity, screenParams, leftButtonOnClickListener);
+        } finally {
+            span.end();
+        }
+    }
+
+    private static Screen createScreen(AppCompatActivity activity,
+                                       ScreenParams screenParams,
+                                       LeftButtonOnClickListener leftButtonOnClickListener) {
         if (screenParams.isFragmentScreen()) {
             return new FragmentScreen(activity, screenParams, leftButtonOnClickListener);
         } else if (screenParams.hasTopTabs()) {
@@ -0,0 +1,196 @@
+package com.reactnativenavigation.screens;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.annotation.Nullable;
+import android.support.v7.app.AppCompatActivity;
+import android.view.View;
+
+import com.reactnativenavigation.NavigationApplication;
+import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.views.LeftButtonOnClickListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Holds screens which were created ahead of time so push doesn't have to inflate them while the user waits.
+ * Screens are keyed by screenInstanceId, which means JS must push with the same params it prefetched with.
+ * All methods must be called on the main thread.
+ */
+public enum ScreenPool {
+    instance;
+
+    private final Map<String, PooledScreen> pool = new LinkedHashMap<>(16, 0.75f, true);
+    private final Queue<PrefetchRequest> pendingPrefetches = new LinkedList<>();
+    private boolean isIdleHandlerRegistered = false;
+    private int hits = 0;
+    private int misses = 0;
+
+    public void prefetch(AppCompatActivity activity, ScreenParams params, LeftButtonOnClickListener leftButtonOnClickListener) {
+        if (pool.containsKey(params.getScreenInstanceId()) || getMaxSize() <= 0) {
+            return;
+        }
+        pendingPrefetches.add(new PrefetchRequest(activity, params, leftButtonOnClickListener));
+        registerIdleHandler();
+    }
+
+    Screen obtain(AppCompatActivity activity, ScreenParams params, LeftButtonOnClickListener leftButtonOnClickListener) {
+        removePendingPrefetch(params.getScreenInstanceId());
+        PooledScreen pooled = pool.remove(params.getScreenInstanceId());
+        if (pooled != null && pooled.matches(activity, params, leftButtonOnClickListener)) {
+            hits++;
+            pooled.screen.screenParams.timestamp = params.timestamp;
+            pooled.screen.screenParams.animateScreenTransitions = params.animateScreenTransitions;
+            return pooled.screen;
+        }
+        if (pooled != null) {
+            pooled.screen.destroy();
+        }
+        misses++;
+        return ScreenFactory.create(activity, params, leftButtonOnClickListener);
+    }
+
+    /**
+     * @return the number of pooled screens destroyed
+     */
+    public int onTrimMemory() {
+        pendingPrefetches.clear();
+        int released = pool.size();
+        clearPool();
+        return released;
+    }
+
+    public void clear(AppCompatActivity activity) {
+        Iterator<PrefetchRequest> pending = pendingPrefetches.iterator();
+        while (pending.hasNext()) {
+            if (pending.next().activity == activity) {
+                pending.remove();
+            }
+        }
+        Iterator<PooledScreen> iterator = pool.values().iterator();
+        while (iterator.hasNext()) {
+            PooledScreen pooled = iterator.next();
+            if (pooled.activity == activity) {
+                pooled.screen.destroy();
+                iterator.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    private void clearPool() {
+        for (PooledScreen pooled : pool.values()) {
+            pooled.screen.destroy();
+        }
+        pool.clear();
+    }
+
+    private void removePendingPrefetch(String screenInstanceId) {
+        Iterator<PrefetchRequest> iterator = pendingPrefetches.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().params.getScreenInstanceId().equals(screenInstanceId)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void registerIdleHandler() {
+        if (isIdleHandlerRegistered) {
+            return;
+        }
+        isIdleHandlerRegistered = true;
+        Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+            @Override
+            public boolean queueIdle() {
+                createNextPendingScreen();
+                isIdleHandlerRegistered = !pendingPrefetches.isEmpty();
+                return isIdleHandlerRegistered;
+            }
+        });
+    }
+
+    private void createNextPendingScreen() {
+        PrefetchRequest request = pendingPrefetches.poll();
+        if (request == null || request.activity.isFinishing() || pool.containsKey(request.params.getScreenInstanceId())) {
+            return;
+        }
+        Screen screen = ScreenFactory.create(request.activity, request.params, request.leftButtonOnClickListener);
+        screen.setVisibility(View.INVISIBLE);
+        measure(request.activity, screen);
+        pool.put(request.params.getScreenInstanceId(), new PooledScreen(request, screen));
+        trimToSize(getMaxSize());
+    }
+
+    /**
+     * ReactRootView only mounts its React component after it has been measured, so we measure the screen
+     * with the window size to have its content rendered before it's pushed.
+     */
+    static void measure(AppCompatActivity activity, Screen screen) {
+        View decorView = activity.getWindow().getDecorView();
+        if (decorView.getWidth() == 0 || decorView.getHeight() == 0) {
+            return;
+        }
+        screen.measure(View.MeasureSpec.makeMeasureSpec(decorView.getWidth(), View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(decorView.getHeight(), View.MeasureSpec.EXACTLY));
+    }
+
+    private void trimToSize(int maxSize) {
+        Iterator<PooledScreen> iterator = pool.values().iterator();
+        while (pool.size() > maxSize && iterator.hasNext()) {
+            PooledScreen eldest = iterator.next();
+            eldest.screen.destroy();
+            iterator.remove();
+        }
+    }
+
+    private int getMaxSize() {
+        return NavigationApplication.instance.getScreenPoolSize();
+    }
+
+    private static class PrefetchRequest {
+        final AppCompatActivity activity;
+        final ScreenParams params;
+        final LeftButtonOnClickListener leftButtonOnClickListener;
+
+        PrefetchRequest(AppCompatActivity activity, ScreenParams params, LeftButtonOnClickListener leftButtonOnClickListener) {
+            this.activity = activity;
+            this.params = params;
+            this.leftButtonOnClickListener = leftButtonOnClickListener;
+        }
+    }
+
+    private static class PooledScreen {
+        final AppCompatActivity activity;
+        final String screenId;
+        final LeftButtonOnClickListener leftButtonOnClickListener;
+        final Screen screen;
+
+        PooledScreen(PrefetchRequest request, Screen screen) {
+            this.activity = request.activity;
+            this.screenId = request.params.screenId;
+            this.leftButtonOnClickListener = request.leftButtonOnClickListener;
+            this.screen = screen;
+        }
+
+        boolean matches(AppCompatActivity activity, ScreenParams params, @Nullable LeftButtonOnClickListener leftButtonOnClickListener) {
+            return this.activity == activity &&
+                   this.leftButtonOnClickListener == leftButtonOnClickListener &&
+                   screenId.equals(params.screenId);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reactnativenavigation.screens;
+
+import android.support.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of all live screens and stacks, so commands targeting a screenInstanceId or a navigatorId
+ * don't need to scan every stack. Screens are added when pushed to a stack and removed when destroyed.
+ * All methods must be called on the main thread.
+ */
+public enum ScreenRegistry {
+    instance;
+
+    private final Map<String, Screen> screens = new HashMap<>();
+    private final Map<Screen, ScreenStack> screenStacks = new HashMap<>();
+    private final Map<String, ScreenStack> navigators = new HashMap<>();
+
+    void register(ScreenStack stack) {
+        navigators.put(stack.getNavigatorId(), stack);
+    }
+
+    void unregister(ScreenStack stack) {
+        if (navigators.get(stack.getNavigatorId()) == stack) {
+            navigators.remove(stack.getNavigatorId());
+        }
+    }
+
+    void register(Screen screen, ScreenStack stack) {
+        for (String screenInstanceId : screen.getScreenInstanceIds()) {
+            screens.put(screenInstanceId, screen);
+        }
+        screenStacks.put(screen, stack);
+    }
+
+    void unregister(Screen screen) {
+        if (screenStacks.remove(screen) == null) {
+            return;
+        }
+        for (String screenInstanceId : screen.getScreenInstanceIds()) {
+            if (screens.get(screenInstanceId) == screen) {
+                screens.remove(screenInstanceId);
+            }
+        }
+    }
+
+    @Nullable
+    public Screen getScreen(String screenInstanceId) {
+        return screens.get(screenInstanceId);
+    }
+
+    @Nullable
+    public ScreenStack getStackOfScreen(String screenInstanceId) {
+        Screen screen = screens.get(screenInstanceId);
+        return screen == null ? null : screenStacks.get(screen);
+    }
+
+    @Nullable
+    public ScreenStack getStack(String navigatorId) {
+        return navigators.get(navigatorId);
+    }
+
+    /**
+     * Hibernates every screen more than one screen below the top of its stack. The system asked for memory,
+     * so this doesn't depend on the app enabling hibernation for pushes.
+     * @return the number of screens hibernated
+     */
+    public int onTrimMemory() {
+        int hibernated = 0;
+        for (ScreenStack stack : navigators.values()) {
+            hibernated += stack.hibernate(1);
+        }
+        return hibernated;
+    }
+
+    /**
+     * @return the number of pages which will be unmounted
+     */
+    public int releaseOffscreenTopTabPages() {
+        int released = 0;
+        for (Screen screen : screenStacks.keySet()) {
+            if (screen instanceof ViewPagerScreen) {
+                released += ((ViewPagerScreen) screen).releaseOffscreenPages();
+            }
+        }
+        return released;
+    }
+
+    public String dump() {
+        StringBuilder result = new StringBuilder();
+        for (ScreenStack stack : navigators.values()) {
+            result.append(stack.getNavigatorId()).append('\n');
+            for (Screen screen : stack.getScreens()) {
+                result.append("    ")
+                        .append(screen.getScreenParams().screenId)
+                        .append(' ')
+                        .append(screen.getScreenInstanceIds())
+                        .append(screen.getParent() == null ? "" : " attached")
+                        .append('\n');
+            }
+        }
+        return result.toString();
+    }
+}
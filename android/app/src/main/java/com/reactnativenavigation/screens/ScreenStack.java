@@ -1,9 +1,12 @@
 package com.reactnativenavigation.screens;
 
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
 import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.util.Log;
+import android.view.Choreographer;
 import android.view.View;
 import android.widget.RelativeLayout;
 import android.widget.RelativeLayout.LayoutParams;
@@ -20,6 +23,7 @@ import com.reactnativenavigation.utils.KeyboardVisibilityDetector;
 import com.reactnativenavigation.utils.Task;
 import com.reactnativenavigation.views.LeftButtonOnClickListener;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
@@ -36,6 +40,7 @@ public class ScreenStack {
     private Stack<Screen> stack = new Stack<>();
     private final KeyboardVisibilityDetector keyboardVisibilityDetector;
     private boolean isStackVisible = false;
+    private boolean isPreWarmScheduled = false;
     private final String navigatorId;
 
     public String getNavigatorId() {
@@ -51,10 +56,11 @@ public class ScreenStack {
         this.navigatorId = navigatorId;
         this.leftButtonOnClickListener = leftButtonOnClickListener;
         keyboardVisibilityDetector = new KeyboardVisibilityDetector(parent);
+        ScreenRegistry.instance.register(this);
     }
 
     public void newStack(final ScreenParams params, LayoutParams layoutParams) {
-        final Screen nextScreen = ScreenFactory.create(activity, params, leftButtonOnClickListener);
+        final Screen nextScreen = ScreenPool.instance.obtain(activity, params, leftButtonOnClickListener);
         final Screen previousScreen = stack.peek();
         if (isStackVisible) {
             pushScreenToVisibleStack(layoutParams, nextScreen, previousScreen, new Screen.OnDisplayListener() {
@@ -70,12 +76,13 @@ public class ScreenStack {
     }
 
     private void removeElementsBelowTop() {
+        List<Screen> removed = new ArrayList<>();
         while (stack.size() > 1) {
-            Screen screen = stack.get(0);
+            Screen screen = stack.remove(0);
             parent.removeView(screen);
-            screen.destroy();
-            stack.remove(0);
+            removed.add(screen);
         }
+        TeardownScheduler.instance.destroy(removed, null);
     }
 
     public void pushInitialModalScreenWithAnimation(final ScreenParams initialScreenParams, LayoutParams params) {
@@ -97,8 +104,12 @@ public class ScreenStack {
         addScreen(initialScreen, params);
     }
 
+    public void prefetch(ScreenParams params) {
+        ScreenPool.instance.prefetch(activity, params, leftButtonOnClickListener);
+    }
+
     public void push(final ScreenParams params, LayoutParams layoutParams) {
-        Screen nextScreen = ScreenFactory.create(activity, params, leftButtonOnClickListener);
+        Screen nextScreen = ScreenPool.instance.obtain(activity, params, leftButtonOnClickListener);
         final Screen previousScreen = stack.peek();
         if (isStackVisible) {
             if (nextScreen.screenParams.sharedElementsTransitions.isEmpty()) {
@@ -163,6 +174,8 @@ public class ScreenStack {
     private void addScreen(Screen screen, LayoutParams layoutParams) {
         addScreenBeforeSnackbarAndFabLayout(screen, layoutParams);
         stack.push(screen);
+        ScreenRegistry.instance.register(screen, this);
+        hibernate(getHibernationDepth());
     }
 
     private void addScreenBeforeSnackbarAndFabLayout(Screen screen, LayoutParams layoutParams) {
@@ -193,9 +206,11 @@ public class ScreenStack {
 
     private void popInternal(final boolean animated, double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
         final Screen toRemove = stack.pop();
-        final Screen previous = stack.peek();
+        ScreenRegistry.instance.unregister(toRemove);
+        final Screen previous = wakeUp(stack.size() - 1);
         previous.screenParams.timestamp = jsPopTimestamp;
         swapScreens(animated, toRemove, previous, onScreenPop);
+        schedulePreWarm();
     }
 
     private void swapScreens(boolean animated, final Screen toRemove, Screen previous, OnScreenPop onScreenPop) {
@@ -233,37 +248,197 @@ public class ScreenStack {
         parent.addView(previous, 0);
     }
 
-    public void popToRoot(final boolean animated, final double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
+    public void popToRoot(boolean animated, double jsPopTimestamp, @Nullable OnScreenPop onScreenPop) {
+        popTo(0, animated, jsPopTimestamp, onScreenPop);
+    }
+
+    public void popTo(String screenInstanceId, boolean animated, double jsPopTimestamp, @Nullable OnScreenPop onScreenPop) {
+        for (int i = stack.size() - 1; i >= 0; i--) {
+            if (stack.get(i).hasScreenInstance(screenInstanceId)) {
+                popTo(i, animated, jsPopTimestamp, onScreenPop);
+                return;
+            }
+        }
+        Log.w(TAG, "Can't pop to " + screenInstanceId + ". reason: screen isn't in the stack");
+    }
+
+    public void popN(int count, boolean animated, double jsPopTimestamp, @Nullable OnScreenPop onScreenPop) {
+        popTo(Math.max(0, stack.size() - 1 - count), animated, jsPopTimestamp, onScreenPop);
+    }
+
+    private void popTo(final int position, final boolean animated, final double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
+        if (position >= stack.size() - 1 || !canPop()) {
+            return;
+        }
         if (keyboardVisibilityDetector.isKeyboardVisible()) {
             keyboardVisibilityDetector.setKeyboardCloseListener(new Runnable() {
                 @Override
                 public void run() {
                     keyboardVisibilityDetector.setKeyboardCloseListener(null);
-                    popToRootInternal(animated, jsPopTimestamp, onScreenPop);
+                    popToInternal(position, animated, jsPopTimestamp, onScreenPop);
                 }
             });
             keyboardVisibilityDetector.closeKeyboard();
         } else {
-            popToRootInternal(animated, jsPopTimestamp, onScreenPop);
+            popToInternal(position, animated, jsPopTimestamp, onScreenPop);
         }
     }
 
-    private void popToRootInternal(final boolean animated, double jsPopTimestamp, @Nullable final OnScreenPop onScreenPop) {
-        while (canPop()) {
-            if (stack.size() == 2) {
-                popInternal(animated, jsPopTimestamp, onScreenPop);
-            } else {
-                popInternal(animated, jsPopTimestamp, null);
+    /**
+     * Screens between the top and the target are removed without being attached or animated, the transition
+     * runs from the top screen straight to the target. Skipped screens are destroyed by the TeardownScheduler.
+     */
+    private void popToInternal(int position, boolean animated, double jsPopTimestamp, @Nullable OnScreenPop onScreenPop) {
+        List<Screen> skipped = new ArrayList<>();
+        while (stack.size() - 2 > position) {
+            skipped.add(stack.remove(stack.size() - 2));
+        }
+        TeardownScheduler.instance.destroy(skipped, null);
+        popInternal(animated, jsPopTimestamp, onScreenPop);
+    }
+
+    /**
+     * Hibernates the screens which are more than depth screens below the top of the stack
+     * @param depth number of screens below the top which keep their React views, 0 hibernates nothing
+     * @return the number of screens hibernated
+     */
+    int hibernate(int depth) {
+        if (depth <= 0) return 0;
+        int hibernated = 0;
+        for (int i = stack.size() - 2 - depth; i >= 0; i--) {
+            Screen screen = stack.get(i);
+            if (screen.isHibernated()) break;
+            if (screen.getParent() == null) {
+                screen.hibernate();
+                hibernated++;
+            }
+        }
+        return hibernated;
+    }
+
+    /**
+     * Hibernates every screen of a hidden stack, including its top screen which is re-created when
+     * the stack is shown again
+     * @return the number of screens hibernated
+     */
+    public int hibernateAll() {
+        if (isStackVisible) return 0;
+        int hibernated = 0;
+        for (Screen screen : stack) {
+            if (!screen.isHibernated()) {
+                screen.hibernate();
+                hibernated++;
+            }
+        }
+        return hibernated;
+    }
+
+    /**
+     * Re-creates the screens which are about to be revealed by the next pops, so they are already rendered
+     * when they're shown. One screen is re-created per idle pass of the main thread, after the pop transition
+     * has started, and the next one waits for the next frame.
+     */
+    private void schedulePreWarm() {
+        if (isPreWarmScheduled) {
+            return;
+        }
+        isPreWarmScheduled = true;
+        Looper.myQueue().addIdleHandler(preWarmer);
+    }
+
+    private final MessageQueue.IdleHandler preWarmer = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            isPreWarmScheduled = isStackVisible && preWarmNext();
+            if (isPreWarmScheduled) {
+                Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        Looper.myQueue().addIdleHandler(preWarmer);
+                    }
+                });
+            }
+            return false;
+        }
+    };
+
+    /**
+     * @return true if a screen was re-created, so deeper screens may still need to be
+     */
+    private boolean preWarmNext() {
+        int depth = Math.max(1, NavigationApplication.instance.getScreenHibernationDepth());
+        for (int i = stack.size() - 2; i >= 0 && i >= stack.size() - 1 - depth; i--) {
+            if (stack.get(i).isHibernated()) {
+                ScreenPool.measure(activity, wakeUp(i));
+                return true;
             }
         }
+        return false;
+    }
+
+    private Screen wakeUp(int position) {
+        Screen hibernated = stack.get(position);
+        if (!hibernated.isHibernated()) {
+            return hibernated;
+        }
+        Screen screen = ScreenFactory.create(activity, hibernated.screenParams, leftButtonOnClickListener);
+        screen.setVisibility(View.INVISIBLE);
+        screen.setLayoutParams(hibernated.getLayoutParams());
+        if (hibernated.getParent() != null) {
+            int index = parent.indexOfChild(hibernated);
+            parent.removeView(hibernated);
+            parent.addView(screen, index);
+        }
+        hibernated.destroy();
+        stack.set(position, screen);
+        ScreenRegistry.instance.register(screen, this);
+        return screen;
+    }
+
+    private static int getHibernationDepth() {
+        NavigationApplication application = NavigationApplication.instance;
+        long memoryBudget = application.getScreenHibernationMemoryBudget();
+        if (memoryBudget > 0 && getUsedMemory() > memoryBudget) {
+            return 1;
+        }
+        return application.getScreenHibernationDepth();
+    }
+
+    private static long getUsedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
     }
 
     public void destroy() {
+        destroy(null);
+    }
+
+    /**
+     * Screens are detached right away and destroyed by the TeardownScheduler
+     * @param onDestroyed called once all of the screens have been destroyed
+     */
+    public void destroy(@Nullable Runnable onDestroyed) {
         for (Screen screen : stack) {
-            screen.destroy();
             parent.removeView(screen);
         }
+        TeardownScheduler.instance.destroy(new ArrayList<>(stack), onDestroyed);
         stack.clear();
+        ScreenRegistry.instance.unregister(this);
+    }
+
+    List<Screen> getScreens() {
+        return stack;
+    }
+
+    /**
+     * @return params of the screens in the stack, bottom screen first
+     */
+    public List<ScreenParams> getScreenParamsList() {
+        List<ScreenParams> result = new ArrayList<>();
+        for (Screen screen : stack) {
+            result.add(screen.screenParams);
+        }
+        return result;
     }
 
     public boolean canPop() {
@@ -402,37 +577,47 @@ public class ScreenStack {
     }
 
     private void performOnScreen(String screenInstanceId, Task<Screen> task) {
-        if (stack.isEmpty()) {
-            return;
-        }
-        for (Screen screen : stack) {
-            if (screen.hasScreenInstance(screenInstanceId)) {
-                task.run(screen);
-                return;
-            }
+        if (ScreenRegistry.instance.getStackOfScreen(screenInstanceId) == this) {
+            task.run(ScreenRegistry.instance.getScreen(screenInstanceId));
         }
     }
 
     public void show(NavigationType type) {
+        show(type, null);
+    }
+
+    /**
+     * @param onDisplayListener called once the initial screen was drawn for the first time, or right away for
+     *                          other navigation types
+     */
+    public void show(NavigationType type, @Nullable Screen.OnDisplayListener onDisplayListener) {
         isStackVisible = true;
+        wakeUp(stack.size() - 1);
         stack.peek().setStyle();
         stack.peek().setVisibility(View.VISIBLE);
-        sendScreenAppearEvent(type, stack.peek());
+        sendScreenAppearEvent(type, stack.peek(), onDisplayListener);
     }
 
-    private void sendScreenAppearEvent(final NavigationType type, final Screen screen) {
+    private void sendScreenAppearEvent(final NavigationType type, final Screen screen, @Nullable Screen.OnDisplayListener onDisplayListener) {
         if (type == NavigationType.InitialScreen) {
-            sendInitialScreenAppearEvent(type, screen);
+            sendInitialScreenAppearEvent(type, screen, onDisplayListener);
         } else {
             sendScreenAppearEvent(screen, type);
+            if (onDisplayListener != null) {
+                onDisplayListener.onDisplay();
+            }
         }
     }
 
-    private void sendInitialScreenAppearEvent(final NavigationType type, final Screen screen) {
+    private void sendInitialScreenAppearEvent(final NavigationType type, final Screen screen,
+                                              @Nullable final Screen.OnDisplayListener onDisplayListener) {
         screen.setOnDisplayListener(new Screen.OnDisplayListener() {
             @Override
             public void onDisplay() {
                 sendScreenAppearEvent(screen, type);
+                if (onDisplayListener != null) {
+                    onDisplayListener.onDisplay();
+                }
             }
         });
     }
@@ -0,0 +1,103 @@
+package com.reactnativenavigation.screens;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.support.annotation.Nullable;
+import android.view.Choreographer;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Destroys screens which were already detached from their parent, a few at a time while the main thread is idle,
+ * so tearing down a large hierarchy doesn't cause a long frame. Each idle pass runs for at most FRAME_BUDGET_MS,
+ * then waits for the next frame to be drawn. Screens are unregistered right away, so commands no longer reach them.
+ * All methods must be called on the main thread.
+ */
+public enum TeardownScheduler implements MessageQueue.IdleHandler, Choreographer.FrameCallback {
+    instance;
+
+    private static final long FRAME_BUDGET_MS = 4;
+
+    private final Queue<Runnable> pending = new LinkedList<>();
+    private int backlog = 0;
+    private boolean isScheduled = false;
+
+    public void destroy(Screen screen) {
+        ScreenRegistry.instance.unregister(screen);
+        backlog++;
+        pending.add(new DestroyScreen(screen));
+        schedule();
+    }
+
+    /**
+     * @param onDestroyed called once all of the screens have been destroyed
+     */
+    public void destroy(Collection<Screen> screens, @Nullable Runnable onDestroyed) {
+        for (Screen screen : screens) {
+            destroy(screen);
+        }
+        if (onDestroyed != null) {
+            pending.add(onDestroyed);
+            schedule();
+        }
+    }
+
+    /**
+     * @return number of screens waiting to be destroyed
+     */
+    public int getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * Destroys all pending screens right away, before the React context they belong to is destroyed
+     */
+    public void flush() {
+        while (!pending.isEmpty()) {
+            pending.poll().run();
+        }
+    }
+
+    @Override
+    public boolean queueIdle() {
+        long deadline = SystemClock.uptimeMillis() + FRAME_BUDGET_MS;
+        while (!pending.isEmpty() && SystemClock.uptimeMillis() < deadline) {
+            pending.poll().run();
+        }
+        isScheduled = !pending.isEmpty();
+        if (isScheduled) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+        return false;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        Looper.myQueue().addIdleHandler(this);
+    }
+
+    private void schedule() {
+        if (isScheduled) {
+            return;
+        }
+        isScheduled = true;
+        Looper.myQueue().addIdleHandler(this);
+    }
+
+    private class DestroyScreen implements Runnable {
+        private final Screen screen;
+
+        DestroyScreen(Screen screen) {
+            this.screen = screen;
+        }
+
+        @Override
+        public void run() {
+            backlog--;
+            screen.destroy();
+        }
+    }
+}
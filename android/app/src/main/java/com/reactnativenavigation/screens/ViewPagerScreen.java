@@ -5,6 +5,8 @@ import android.support.design.widget.TabLayout;
 import android.support.v4.view.ViewPager;
 import android.support.v7.app.AppCompatActivity;
 
+import com.reactnativenavigation.events.ContextualMenuHiddenEvent;
+import com.reactnativenavigation.events.ViewPagerScreenChangedEvent;
 import com.reactnativenavigation.params.BaseScreenParams;
 import com.reactnativenavigation.params.FabParams;
 import com.reactnativenavigation.params.PageParams;
@@ -24,6 +26,7 @@ public class ViewPagerScreen extends Screen {
     private static final int OFFSCREEN_PAGE_LIMIT = 99;
     protected List<ContentView> contentViews;
     protected ViewPager viewPager;
+    private boolean isReleasingOffscreenPages = false;
 
     public ViewPagerScreen(AppCompatActivity activity, ScreenParams screenParams, LeftButtonOnClickListener backButtonListener) {
         super(activity, screenParams, backButtonListener);
@@ -47,7 +50,7 @@ public class ViewPagerScreen extends Screen {
 
     @Override
     public ContentView getContentView() {
-        return contentViews.get(getCurrentItem());
+        return getPage(getCurrentItem());
     }
 
     @Override
@@ -61,7 +64,7 @@ public class ViewPagerScreen extends Screen {
 
     private void createViewPager() {
         viewPager = createViewPager(getContext());
-        viewPager.setOffscreenPageLimit(OFFSCREEN_PAGE_LIMIT);
+        viewPager.setOffscreenPageLimit(isLazy() ? screenParams.styleParams.topTabsOffscreenPageLimit : OFFSCREEN_PAGE_LIMIT);
         LayoutParams lp = new LayoutParams(MATCH_PARENT, MATCH_PARENT);
         if (screenParams.styleParams.drawScreenBelowTopBar) {
             lp.addRule(BELOW, topBar.getId());
@@ -76,7 +79,11 @@ public class ViewPagerScreen extends Screen {
     private void addPages() {
         contentViews = new ArrayList<>();
         for (PageParams tab : screenParams.topTabParams) {
-            addPage(tab);
+            if (isLazy()) {
+                contentViews.add(null);
+            } else {
+                addPage(tab);
+            }
         }
     }
 
@@ -86,12 +93,64 @@ public class ViewPagerScreen extends Screen {
         contentViews.add(contentView);
     }
 
+    /**
+     * In lazy mode pages are created when the ViewPager first needs them
+     */
+    ContentView getPage(int position) {
+        ContentView page = contentViews.get(position);
+        if (page == null) {
+            page = createContentView(screenParams.topTabParams.get(position));
+            contentViews.set(position, page);
+        }
+        return page;
+    }
+
+    /**
+     * Called when a page falls outside of the offscreen page limit. Its ReactRootView is unmounted only if
+     * topTabsUnmountOffscreenPages is set, otherwise the page is kept and reattached when it's needed again.
+     */
+    void onPageDestroyed(int position) {
+        ContentView page = contentViews.get(position);
+        if (page != null && (screenParams.styleParams.topTabsUnmountOffscreenPages || isReleasingOffscreenPages)) {
+            destroyPage(page);
+            contentViews.set(position, null);
+        }
+    }
+
+    /**
+     * Called when memory is low. Pages beyond the adjacent ones are unmounted, from now on pages are unmounted
+     * whenever they leave the offscreen page limit and re-created when they're needed again.
+     * @return the number of pages beyond the adjacent ones, which the ViewPager unmounts on its next layout
+     */
+    int releaseOffscreenPages() {
+        isReleasingOffscreenPages = true;
+        if (viewPager.getOffscreenPageLimit() > 1) {
+            viewPager.setOffscreenPageLimit(1);
+        }
+        int released = 0;
+        int currentItem = viewPager.getCurrentItem();
+        for (int i = 0; i < contentViews.size(); i++) {
+            if (contentViews.get(i) != null && Math.abs(i - currentItem) > 1) {
+                released++;
+            }
+        }
+        return released;
+    }
+
+    protected void destroyPage(ContentView page) {
+        page.unmountReactView();
+    }
+
+    private boolean isLazy() {
+        return screenParams.styleParams.topTabsLazyLoad;
+    }
+
     protected ContentView createContentView(PageParams tab) {
         return new ContentView(getContext(), tab.screenId, tab.navigationParams);
     }
 
     private void setupViewPager(TabLayout tabLayout) {
-        ContentViewPagerAdapter adapter = new ContentViewPagerAdapter(contentViews, screenParams.topTabParams);
+        ContentViewPagerAdapter adapter = new ContentViewPagerAdapter(this, screenParams.topTabParams);
         viewPager.setAdapter(adapter);
         viewPager.addOnPageChangeListener(adapter);
         tabLayout.setupWithViewPager(viewPager);
@@ -115,13 +174,15 @@ public class ViewPagerScreen extends Screen {
     @Override
     public void unmountReactView() {
         for (ContentView contentView : contentViews) {
-            contentView.unmountReactView();
+            if (contentView != null) {
+                contentView.unmountReactView();
+            }
         }
     }
 
     @Override
     public void setOnDisplayListener(OnDisplayListener onContentViewDisplayedListener) {
-        contentViews.get(0).setOnDisplayListener(onContentViewDisplayedListener);
+        getPage(0).setOnDisplayListener(onContentViewDisplayedListener);
     }
 
     @Override
@@ -142,6 +203,20 @@ public class ViewPagerScreen extends Screen {
         viewPager.setCurrentItem(index);
     }
 
+    @Override
+    protected String[] getSubscribedEventTypes() {
+        return new String[] {ContextualMenuHiddenEvent.TYPE, ViewPagerScreenChangedEvent.TYPE};
+    }
+
+    @Override
+    public List<String> getScreenInstanceIds() {
+        List<String> result = new ArrayList<>();
+        for (PageParams topTabParam : screenParams.topTabParams) {
+            result.add(topTabParam.getScreenInstanceId());
+        }
+        return result;
+    }
+
     @Override
     public boolean hasScreenInstance(String screenInstanceId) {
         for (PageParams topTabParam : screenParams.topTabParams) {
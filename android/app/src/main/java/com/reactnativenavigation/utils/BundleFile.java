@@ -0,0 +1,183 @@
+package com.reactnativenavigation.utils;
+
+import android.content.pm.PackageManager;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Parcel;
+import android.support.annotation.Nullable;
+import android.support.v4.util.AtomicFile;
+import android.text.TextUtils;
+import android.util.Log;
+
+import com.reactnativenavigation.NavigationApplication;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A bundle kept gzipped in the app's files dir. The data starts with a format version, the app's versionCode and
+ * the platform's SDK_INT and build fingerprint. Parcel's format is private to the platform, so files written by
+ * another version of the format, of the app or of the platform are ignored. Optional extras may follow the bundle.
+ * Bundles must only contain primitives, strings, arrays and nested bundles.
+ * Files are replaced atomically, a write which fails midway leaves the previous file in place.
+ */
+public class BundleFile {
+    private static final String TAG = "BundleFile";
+
+    private final AtomicFile file;
+    private final String name;
+    private final int version;
+    private final int appVersionCode;
+
+    public BundleFile(String name, int version) {
+        this(new File(NavigationApplication.instance.getFilesDir(), name), version, getAppVersionCode());
+    }
+
+    public BundleFile(File file, int version, int appVersionCode) {
+        this.file = new AtomicFile(file);
+        this.name = file.getName();
+        this.version = version;
+        this.appVersionCode = appVersionCode;
+    }
+
+    public byte[] marshall(Bundle bundle) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            writeHeader(parcel);
+            parcel.writeBundle(bundle);
+            return parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    /**
+     * The bundle is marshalled once, the extras are dropped if they make the data larger than maxBytes.
+     * read() returns the bundle with the extras put in it.
+     */
+    public byte[] marshall(Bundle bundle, Bundle extras, int maxBytes) {
+        Parcel parcel = Parcel.obtain();
+        try {
+            writeHeader(parcel);
+            parcel.writeBundle(bundle);
+            int bundleSize = parcel.dataSize();
+            parcel.writeBundle(extras);
+            if (parcel.dataSize() > maxBytes) {
+                Log.w(TAG, "Dropping " + (parcel.dataSize() - bundleSize) + " bytes of extras from " + name);
+                parcel.setDataSize(bundleSize);
+            }
+            return parcel.marshall();
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    public synchronized void write(byte[] data) {
+        FileOutputStream out = null;
+        try {
+            out = file.startWrite();
+            GZIPOutputStream gzip = new GZIPOutputStream(out);
+            gzip.write(data);
+            gzip.finish();
+            file.finishWrite(out);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write " + name, e);
+            file.failWrite(out);
+        }
+    }
+
+    @Nullable
+    public Bundle read() {
+        byte[] data = readBytes();
+        if (data == null) {
+            return null;
+        }
+        Parcel parcel = Parcel.obtain();
+        try {
+            parcel.unmarshall(data, 0, data.length);
+            parcel.setDataPosition(0);
+            if (!readHeader(parcel)) {
+                return null;
+            }
+            Bundle result = parcel.readBundle(BundleFile.class.getClassLoader());
+            if (result != null && parcel.dataAvail() > 0) {
+                Bundle extras = parcel.readBundle(BundleFile.class.getClassLoader());
+                if (extras != null) {
+                    result.putAll(extras);
+                }
+            }
+            return result;
+        } catch (RuntimeException e) {
+            Log.w(TAG, "Ignoring unreadable " + name, e);
+            return null;
+        } finally {
+            parcel.recycle();
+        }
+    }
+
+    public synchronized void delete() {
+        file.delete();
+    }
+
+    private void writeHeader(Parcel parcel) {
+        parcel.writeInt(version);
+        parcel.writeInt(appVersionCode);
+        parcel.writeInt(Build.VERSION.SDK_INT);
+        parcel.writeString(Build.FINGERPRINT);
+    }
+
+    private boolean readHeader(Parcel parcel) {
+        return parcel.readInt() == version &&
+               parcel.readInt() == appVersionCode &&
+               parcel.readInt() == Build.VERSION.SDK_INT &&
+               TextUtils.equals(Build.FINGERPRINT, parcel.readString());
+    }
+
+    @Nullable
+    private synchronized byte[] readBytes() {
+        InputStream in = null;
+        try {
+            in = new GZIPInputStream(file.openRead());
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) file.getBaseFile().length() * 4);
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) > 0) {
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read " + name, e);
+            return null;
+        } finally {
+            close(in);
+        }
+    }
+
+    private static void close(@Nullable Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private static int getAppVersionCode() {
+        try {
+            NavigationApplication app = NavigationApplication.instance;
+            return app.getPackageManager().getPackageInfo(app.getPackageName(), 0).versionCode;
+        } catch (PackageManager.NameNotFoundException e) {
+            return 0;
+        }
+    }
+}
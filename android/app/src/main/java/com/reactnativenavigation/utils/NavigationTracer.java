@@ -0,0 +1,166 @@
+package com.reactnativenavigation.utils;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.Trace;
+import android.support.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Records the steps of navigation commands (bridge call, parsing, screen creation, first draw, animations
+ * and appear events) in a ring buffer which can be dumped in the Chrome trace event format and opened
+ * in chrome://tracing or Perfetto. Synchronous steps are also reported as android.os.Trace sections.
+ * Events are correlated by screenInstanceId. Tracing is off unless enabled, see
+ * NavigationApplication#isNavigationTracingEnabled; while it's off nothing is recorded or allocated.
+ */
+public enum NavigationTracer {
+    instance;
+
+    private static final int BUFFER_SIZE = 512;
+
+    private final TraceEvent[] events = new TraceEvent[BUFFER_SIZE];
+    private int next = 0;
+    private volatile boolean isEnabled = false;
+
+    public void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    /**
+     * Callers which build span names or screenInstanceIds should check this first so a disabled tracer costs nothing
+     */
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts a span which is also a Trace section, it must be ended on the same thread
+     */
+    public Span begin(String name) {
+        return isEnabled ? new Span(name, true) : Span.DISABLED;
+    }
+
+    /**
+     * Starts a span which may end on a different thread or in a later frame, like an animation
+     */
+    public Span beginAsync(String name) {
+        return isEnabled ? new Span(name, false) : Span.DISABLED;
+    }
+
+    public void instant(String name, @Nullable String screenInstanceId) {
+        if (!isEnabled) return;
+        add(new TraceEvent(name, screenInstanceId, Thread.currentThread().getId(), now(), -1));
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = null;
+        }
+        next = 0;
+    }
+
+    public synchronized String dump() {
+        JSONArray traceEvents = new JSONArray();
+        try {
+            for (int i = 0; i < events.length; i++) {
+                TraceEvent event = events[(next + i) % events.length];
+                if (event != null) {
+                    traceEvents.put(event.toJson());
+                }
+            }
+            return new JSONObject().put("traceEvents", traceEvents).toString();
+        } catch (JSONException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private synchronized void add(TraceEvent event) {
+        events[next] = event;
+        next = (next + 1) % events.length;
+    }
+
+    private static long now() {
+        return System.nanoTime() / 1000;
+    }
+
+    public static class Span {
+        private static final Span DISABLED = new Span();
+
+        private final String name;
+        private final boolean isTraceSection;
+        private final long threadId;
+        private final long start;
+        private String screenInstanceId;
+        private boolean isEnded = false;
+
+        private Span() {
+            name = null;
+            isTraceSection = false;
+            threadId = 0;
+            start = 0;
+            isEnded = true;
+        }
+
+        private Span(String name, boolean isTraceSection) {
+            this.name = name;
+            this.isTraceSection = isTraceSection && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2;
+            threadId = Thread.currentThread().getId();
+            start = now();
+            if (this.isTraceSection) {
+                Trace.beginSection(name);
+            }
+        }
+
+        public Span setScreenInstanceId(String screenInstanceId) {
+            if (isEnded) return this;
+            this.screenInstanceId = screenInstanceId;
+            return this;
+        }
+
+        public void end() {
+            if (isEnded) return;
+            isEnded = true;
+            if (isTraceSection) {
+                Trace.endSection();
+            }
+            instance.add(new TraceEvent(name, screenInstanceId, threadId, start, now() - start));
+        }
+    }
+
+    private static class TraceEvent {
+        final String name;
+        final String screenInstanceId;
+        final long threadId;
+        final long timestamp;
+        final long duration;
+
+        TraceEvent(String name, @Nullable String screenInstanceId, long threadId, long timestamp, long duration) {
+            this.name = name;
+            this.screenInstanceId = screenInstanceId;
+            this.threadId = threadId;
+            this.timestamp = timestamp;
+            this.duration = duration;
+        }
+
+        JSONObject toJson() throws JSONException {
+            JSONObject result = new JSONObject()
+                    .put("name", name)
+                    .put("cat", "navigation")
+                    .put("pid", Process.myPid())
+                    .put("tid", threadId)
+                    .put("ts", timestamp);
+            if (duration >= 0) {
+                result.put("ph", "X").put("dur", duration);
+            } else {
+                result.put("ph", "i").put("s", "t");
+            }
+            if (screenInstanceId != null) {
+                result.put("args", new JSONObject().put("screenInstanceId", screenInstanceId));
+            }
+            return result;
+        }
+    }
+}
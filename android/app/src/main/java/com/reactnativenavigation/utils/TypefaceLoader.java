@@ -9,12 +9,12 @@ import com.reactnativenavigation.NavigationApplication;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypefaceLoader {
-    private static final Map<String, Typeface> typefaceRegistry = new HashMap<>();
+    private static final Map<String, Typeface> typefaceRegistry = new ConcurrentHashMap<>();
 
     private String fontFamilyName;
 
@@ -22,21 +22,34 @@ public class TypefaceLoader {
         this.fontFamilyName = fontFamilyName;
     }
 
+    /**
+     * @return the number of typefaces released
+     */
+    public static int clearCache() {
+        int size = typefaceRegistry.size();
+        typefaceRegistry.clear();
+        return size;
+    }
+
     public void load(@NonNull TextView view) {
         Typeface result = getTypeFace();
         view.setTypeface(result);
     }
 
     public Typeface getTypeFace() {
-        if (typefaceRegistry.containsKey(fontFamilyName)) {
-            return typefaceRegistry.get(fontFamilyName);
+        String key = fontFamilyName == null ? "" : fontFamilyName;
+        Typeface result = typefaceRegistry.get(key);
+        if (result == null) {
+            result = load(fontFamilyName);
+            typefaceRegistry.put(key, result);
         }
-        Typeface result = load(fontFamilyName);
-        typefaceRegistry.put(fontFamilyName, result);
         return result;
     }
 
     private Typeface load(String fontFamilyName) {
+        if (fontFamilyName == null) {
+            return Typeface.create((String) null, Typeface.NORMAL);
+        }
         AssetManager assets = NavigationApplication.instance.getAssets();
         try {
             List<String> fonts = Arrays.asList(assets.list("fonts"));
@@ -3,6 +3,9 @@ package com.reactnativenavigation.views;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.support.annotation.Nullable;
+import android.support.v4.view.NestedScrollingParent;
+import android.support.v4.view.NestedScrollingParentHelper;
+import android.support.v4.view.ViewCompat;
 import android.view.MotionEvent;
 import android.view.View;
 
@@ -11,16 +14,23 @@ import com.reactnativenavigation.views.collapsingToolbar.CollapseAmount;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingView;
 import com.reactnativenavigation.views.collapsingToolbar.CollapsingViewMeasurer;
 import com.reactnativenavigation.views.collapsingToolbar.OnScrollViewAddedListener;
+import com.reactnativenavigation.views.collapsingToolbar.ScrollOffsetTracker;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollListener;
 import com.reactnativenavigation.views.collapsingToolbar.ScrollViewDelegate;
 import com.reactnativenavigation.views.collapsingToolbar.ViewCollapser;
 import com.reactnativenavigation.views.utils.ScrollViewDetector;
 
+/**
+ * Collapses the top bar as its content scrolls. Scrolls are read from the content's ScrollView or reported by
+ * nested scrolling children, touches are never intercepted.
+ */
 @SuppressLint("ViewConstructor")
-public class CollapsingContentView extends ContentView implements CollapsingView {
+public class CollapsingContentView extends ContentView implements CollapsingView, NestedScrollingParent {
 
     private @Nullable ScrollViewDelegate scrollViewDelegate;
     private @Nullable ScrollViewDetector scrollViewDetector;
+    private @Nullable ScrollOffsetTracker scrollOffsetTracker;
+    private final NestedScrollingParentHelper nestedScrollingParentHelper = new NestedScrollingParentHelper(this);
     private final ViewCollapser viewCollapser;
 
     public CollapsingContentView(Context context, String screenId, NavigationParams navigationParams) {
@@ -29,27 +39,89 @@ public class CollapsingContentView extends ContentView implements CollapsingView
     }
 
     public void setupCollapseDetection(ScrollListener scrollListener, OnScrollViewAddedListener onScrollViewAddedListener) {
+        scrollOffsetTracker = scrollListener.getScrollOffsetTracker();
+        if (ViewCompat.isAttachedToWindow(this)) {
+            getViewTreeObserver().addOnScrollChangedListener(scrollOffsetTracker);
+        }
         scrollViewDelegate = new ScrollViewDelegate(scrollListener);
         scrollViewDetector = new ScrollViewDetector(this, onScrollViewAddedListener, scrollViewDelegate);
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (scrollOffsetTracker != null) {
+            getViewTreeObserver().addOnScrollChangedListener(scrollOffsetTracker);
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        if (scrollOffsetTracker != null) {
+            getViewTreeObserver().removeOnScrollChangedListener(scrollOffsetTracker);
+        }
+        super.onDetachedFromWindow();
+    }
+
     @Override
     public boolean dispatchTouchEvent(MotionEvent ev) {
-        if (scrollViewDelegate != null && scrollViewDelegate.hasScrollView()) {
-            boolean consumed = scrollViewDelegate.didInterceptTouchEvent(ev);
-            if (consumed) {
-                return true;
-            }
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.onTouchEvent(ev);
         }
         return super.dispatchTouchEvent(ev);
     }
 
     @Override
-    public void onViewAdded(final View child) {
-        super.onViewAdded(child);
-        if (scrollViewDetector != null) {
-            scrollViewDetector.findScrollView(child);
+    public boolean onStartNestedScroll(View child, View target, int nestedScrollAxes) {
+        return scrollOffsetTracker != null && (nestedScrollAxes & ViewCompat.SCROLL_AXIS_VERTICAL) != 0;
+    }
+
+    @Override
+    public void onNestedScrollAccepted(View child, View target, int axes) {
+        nestedScrollingParentHelper.onNestedScrollAccepted(child, target, axes);
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.onNestedScrollStarted();
+        }
+    }
+
+    @Override
+    public void onStopNestedScroll(View target) {
+        nestedScrollingParentHelper.onStopNestedScroll(target);
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.onNestedScrollStopped();
+        }
+    }
+
+    @Override
+    public void onNestedScroll(View target, int dxConsumed, int dyConsumed, int dxUnconsumed, int dyUnconsumed) {
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.onNestedScroll(dyConsumed, dyUnconsumed);
+        }
+    }
+
+    @Override
+    public void onNestedPreScroll(View target, int dx, int dy, int[] consumed) {
+        if (scrollOffsetTracker != null) {
+            consumed[1] = scrollOffsetTracker.onNestedPreScroll(dy);
+        }
+    }
+
+    @Override
+    public boolean onNestedFling(View target, float velocityX, float velocityY, boolean consumed) {
+        return false;
+    }
+
+    @Override
+    public boolean onNestedPreFling(View target, float velocityX, float velocityY) {
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.onNestedFling(velocityY);
         }
+        return false;
+    }
+
+    @Override
+    public int getNestedScrollAxes() {
+        return nestedScrollingParentHelper.getNestedScrollAxes();
     }
 
     @Override
@@ -63,6 +135,10 @@ public class CollapsingContentView extends ContentView implements CollapsingView
     }
 
     public void destroy() {
+        if (scrollOffsetTracker != null) {
+            getViewTreeObserver().removeOnScrollChangedListener(scrollOffsetTracker);
+            scrollOffsetTracker.destroy();
+        }
         if (scrollViewDetector != null) {
             scrollViewDetector.destroy();
         }
@@ -8,7 +8,9 @@ import com.facebook.react.ReactRootView;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.params.NavigationParams;
 import com.reactnativenavigation.screens.SingleScreen;
+import com.reactnativenavigation.utils.NavigationTracer;
 import com.reactnativenavigation.utils.ViewUtils;
+import com.reactnativenavigation.views.utils.ViewHierarchyIndex;
 import com.reactnativenavigation.views.utils.ViewMeasurer;
 
 public class ContentView extends ReactRootView {
@@ -19,9 +21,14 @@ public class ContentView extends ReactRootView {
     boolean isContentVisible = false;
     private SingleScreen.OnDisplayListener onDisplayListener;
     protected ViewMeasurer viewMeasurer;
+    private ViewHierarchyIndex hierarchyIndex;
 
     public void setOnDisplayListener(SingleScreen.OnDisplayListener onDisplayListener) {
         this.onDisplayListener = onDisplayListener;
+        if (getChildCount() > 0) {
+            // Content was already rendered (prefetched screen), onViewAdded won't be called again
+            detectContentViewVisible(getChildAt(0));
+        }
     }
 
     public ContentView(Context context, String screenId, NavigationParams navigationParams) {
@@ -60,7 +67,21 @@ public class ContentView extends ReactRootView {
         return navigationParams.navigatorEventId;
     }
 
+    /**
+     * Created on first use, descendants added from then on are indexed as they're added
+     */
+    public ViewHierarchyIndex getHierarchyIndex() {
+        if (hierarchyIndex == null) {
+            hierarchyIndex = new ViewHierarchyIndex(this);
+        }
+        return hierarchyIndex;
+    }
+
     public void unmountReactView() {
+        if (hierarchyIndex != null) {
+            hierarchyIndex.destroy();
+            hierarchyIndex = null;
+        }
         unmountReactApplication();
     }
 
@@ -84,6 +105,7 @@ public class ContentView extends ReactRootView {
                 public void run() {
                     if (!isContentVisible) {
                         isContentVisible = true;
+                        NavigationTracer.instance.instant("firstDraw", navigationParams.screenInstanceId);
                         onDisplayListener.onDisplay();
                         onDisplayListener = null;
                     }
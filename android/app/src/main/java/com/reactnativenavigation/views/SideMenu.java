@@ -48,11 +48,49 @@ public class SideMenu extends DrawerLayout {
         destroySideMenu(rightSideMenuView);
     }
 
+    /**
+     * Unmounts the menus while the window is hidden, they're re-created when the window is visible again.
+     * Menus can't be re-created lazily when they're dragged open since DrawerLayout needs a drawer view to drag.
+     */
+    public int releaseClosedMenus() {
+        if (getWindowVisibility() == VISIBLE) {
+            return 0;
+        }
+        int released = 0;
+        if (leftSideMenuView != null && !isDrawerVisible(leftSideMenuView)) {
+            destroySideMenu(leftSideMenuView);
+            leftSideMenuView = null;
+            released++;
+        }
+        if (rightSideMenuView != null && !isDrawerVisible(rightSideMenuView)) {
+            destroySideMenu(rightSideMenuView);
+            rightSideMenuView = null;
+            released++;
+        }
+        return released;
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (visibility == VISIBLE) {
+            restoreReleasedMenus();
+        }
+    }
+
+    private void restoreReleasedMenus() {
+        if (leftSideMenuView == null) {
+            leftSideMenuView = createSideMenu(leftMenuParams);
+        }
+        if (rightSideMenuView == null) {
+            rightSideMenuView = createSideMenu(rightMenuParams);
+        }
+    }
+
     private void destroySideMenu(ContentView sideMenuView) {
         if (sideMenuView == null) {
             return;
         }
-        removeDrawerListener(sideMenuListener);
         sideMenuView.unmountReactView();
         removeView(sideMenuView);
     }
@@ -76,10 +114,12 @@ public class SideMenu extends DrawerLayout {
     }
 
     public void openDrawer(Side side) {
+        restoreReleasedMenus();
         openDrawer(side.gravity);
     }
 
     public void openDrawer(boolean animated, Side side) {
+        restoreReleasedMenus();
         openDrawer(side.gravity, animated);
     }
 
@@ -1,27 +1,40 @@
 package com.reactnativenavigation.views.collapsingToolbar;
 
+/**
+ * Amounts with an exact value are reused by the object which produces them, so they must not be kept after the call
+ * they were passed to returns.
+ */
 public class CollapseAmount {
-    final static CollapseAmount None = new CollapseAmount();
+    final static CollapseAmount None = new CollapseAmount(CollapseCalculator.Direction.None);
+    public final static CollapseAmount Up = new CollapseAmount(CollapseCalculator.Direction.Up);
+    public final static CollapseAmount Down = new CollapseAmount(CollapseCalculator.Direction.Down);
 
-    private CollapseAmount() {}
-
-    private Float amount;
+    private float amount;
+    private boolean hasAmount;
     private CollapseCalculator.Direction direction;
 
-    CollapseAmount(float amount) {
-        this.amount = amount;
-    }
+    CollapseAmount() {}
 
-    public CollapseAmount(CollapseCalculator.Direction direction) {
+    private CollapseAmount(CollapseCalculator.Direction direction) {
         this.direction = direction;
     }
 
+    public static CollapseAmount of(CollapseCalculator.Direction direction) {
+        return direction == CollapseCalculator.Direction.Up ? Up : direction == CollapseCalculator.Direction.Down ? Down : None;
+    }
+
+    CollapseAmount set(float amount) {
+        this.amount = amount;
+        hasAmount = true;
+        return this;
+    }
+
     boolean canCollapse() {
-        return amount != null || this != None;
+        return hasAmount || this != None;
     }
 
     boolean hasExactAmount() {
-        return amount != null;
+        return hasAmount;
     }
 
     boolean collapseToTop() {
@@ -1,7 +1,7 @@
 package com.reactnativenavigation.views.collapsingToolbar;
 
+import android.content.Context;
 import android.support.annotation.NonNull;
-import android.support.annotation.Nullable;
 import android.util.Log;
 import android.view.GestureDetector;
 import android.view.MotionEvent;
@@ -19,8 +19,12 @@ public class CollapseCalculator {
         Up, Down, None
     }
 
+    private static final int NO_ACTION = -1;
+
     private float collapse;
-    private MotionEvent previousTouchEvent;
+    private final CollapseAmount collapseAmount = new CollapseAmount();
+    private int previousTouchAction = NO_ACTION;
+    private float previousTouchY;
     private float touchDownY = -1;
     private float previousCollapseY = -1;
     private boolean isExpended;
@@ -39,18 +43,22 @@ public class CollapseCalculator {
     private final int minimumFlingVelocity;
 
     public CollapseCalculator(final CollapsingView collapsingView, CollapseBehaviour collapseBehaviour) {
+        this(NavigationApplication.instance, collapsingView, collapseBehaviour);
+    }
+
+    CollapseCalculator(Context context, final CollapsingView collapsingView, CollapseBehaviour collapseBehaviour) {
         this.view = collapsingView;
         this.collapseBehaviour = collapseBehaviour;
-        ViewConfiguration vc = ViewConfiguration.get(NavigationApplication.instance);
+        ViewConfiguration vc = ViewConfiguration.get(context);
         scaledTouchSlop = vc.getScaledTouchSlop();
         minimumFlingVelocity = vc.getScaledMinimumFlingVelocity();
-        setFlingDetector();
+        setFlingDetector(context);
     }
 
-    private void setFlingDetector() {
+    private void setFlingDetector(Context context) {
         if (collapseBehaviour.shouldCollapseOnFling()) {
             flingDetector =
-                    new GestureDetector(NavigationApplication.instance, new GestureDetector.SimpleOnGestureListener() {
+                    new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
                         @Override
                         public boolean onFling(MotionEvent e1, MotionEvent e2, float velocityX, final float velocityY) {
                             final Direction direction = getScrollDirection(e1, e2);
@@ -62,7 +70,7 @@ public class CollapseCalculator {
                             }
 
                             if (canCollapse && totalCollapse != 0) {
-                                flingListener.onFling(new CollapseAmount(direction));
+                                flingListener.onFling(CollapseAmount.of(direction));
                                 if (direction == Direction.Up) {
                                     view.asView().postOnAnimation(new Runnable() {
                                         @Override
@@ -88,6 +96,10 @@ public class CollapseCalculator {
         }
     }
 
+    CollapsingView getCollapsingView() {
+        return view;
+    }
+
     void setScrollView(ScrollView scrollView) {
         this.scrollView = scrollView;
     }
@@ -96,18 +108,21 @@ public class CollapseCalculator {
         this.flingListener = flingListener;
     }
 
+    /**
+     * Doesn't allocate, the returned amount is reused by the next call
+     */
     @NonNull
     CollapseAmount calculate(MotionEvent event) {
         updateInitialTouchY(event);
         final boolean isFling = flingDetector.onTouchEvent(event);
         CollapseAmount touchUpCollapse = shouldCollapseOnTouchUp(event, isFling);
         if (touchUpCollapse != CollapseAmount.None) {
-            previousTouchEvent = MotionEvent.obtain(event);
+            savePreviousTouchEvent(event);
             return touchUpCollapse;
         }
 
-        if (!isMoveEvent(event)) {
-            previousTouchEvent = MotionEvent.obtain(event);
+        if (!isMoveEvent(event.getActionMasked())) {
+            savePreviousTouchEvent(event);
             return CollapseAmount.None;
         }
 
@@ -116,17 +131,22 @@ public class CollapseCalculator {
             return calculateCollapse(event);
         } else {
             previousCollapseY = -1;
-            previousTouchEvent = MotionEvent.obtain(event);
+            savePreviousTouchEvent(event);
             return CollapseAmount.None;
         }
     }
 
+    private void savePreviousTouchEvent(MotionEvent event) {
+        previousTouchAction = event.getActionMasked();
+        previousTouchY = event.getRawY();
+    }
+
     private CollapseAmount shouldCollapseOnTouchUp(MotionEvent event, boolean isFling) {
-        if (isTouchUp(event) && collapseBehaviour.shouldCollapseOnTouchUp() && !isFling) {
+        if (isTouchUp(event.getActionMasked()) && collapseBehaviour.shouldCollapseOnTouchUp() && !isFling) {
             final float visibilityPercentage = view.getCurrentCollapseValue() / view.getFinalCollapseValue();
             Direction direction = visibilityPercentage >= 0.5f ? Direction.Up : Direction.Down;
             if (canCollapse(direction) && totalCollapse != 0) {
-                return new CollapseAmount(direction);
+                return CollapseAmount.of(direction);
             }
         }
         return CollapseAmount.None;
@@ -161,10 +181,10 @@ public class CollapseCalculator {
         if (y == (previousCollapseY == -1 ? touchDownY : previousCollapseY)) {
             return Direction.None;
         }
-        if (previousTouchEvent == null) {
+        if (previousTouchAction == NO_ACTION) {
             return Direction.None;
         }
-        return y < previousTouchEvent.getRawY() ?
+        return y < previousTouchY ?
                 Direction.Up :
                 Direction.Down;
     }
@@ -217,8 +237,8 @@ public class CollapseCalculator {
         totalCollapse += collapse;
         totalCollapseDeltaSinceTouchDown += Math.abs(y - previousCollapseY);
         previousCollapseY = y;
-        previousTouchEvent = MotionEvent.obtain(event);
-        return totalCollapseDeltaSinceTouchDown < scaledTouchSlop ? CollapseAmount.None : new CollapseAmount(collapse);
+        savePreviousTouchEvent(event);
+        return totalCollapseDeltaSinceTouchDown < scaledTouchSlop ? CollapseAmount.None : collapseAmount.set(collapse);
     }
 
     private float calculateCollapse(float y) {
@@ -235,29 +255,29 @@ public class CollapseCalculator {
 
 
     private void updateInitialTouchY(MotionEvent event) {
-        if (isTouchDown(previousTouchEvent) && isMoveEvent(event)) {
-            saveInitialTouchY(previousTouchEvent);
-        } else if (isTouchUp(event) && isMoveEvent(previousTouchEvent)) {
+        if (isTouchDown(previousTouchAction) && isMoveEvent(event.getActionMasked())) {
+            saveInitialTouchY(previousTouchY);
+        } else if (isTouchUp(event.getActionMasked()) && isMoveEvent(previousTouchAction)) {
             clearInitialTouchY();
         }
     }
 
-    private boolean isMoveEvent(@Nullable MotionEvent event) {
-        return event != null && event.getActionMasked() == MotionEvent.ACTION_MOVE;
+    private boolean isMoveEvent(int action) {
+        return action == MotionEvent.ACTION_MOVE;
     }
 
-    private boolean isTouchDown(@Nullable MotionEvent event) {
-        return event != null && event.getActionMasked() == MotionEvent.ACTION_DOWN;
+    private boolean isTouchDown(int action) {
+        return action == MotionEvent.ACTION_DOWN;
     }
 
-    private boolean isTouchUp(@Nullable MotionEvent event) {
-        return event != null && event.getActionMasked() == MotionEvent.ACTION_UP;
+    private boolean isTouchUp(int action) {
+        return action == MotionEvent.ACTION_UP;
     }
 
-    private void saveInitialTouchY(MotionEvent event) {
+    private void saveInitialTouchY(float y) {
         totalCollapse = 0;
         totalCollapseDeltaSinceTouchDown = 0;
-        touchDownY = event.getRawY();
+        touchDownY = y;
         scrollY = scrollView.getScrollY();
         previousCollapseY = touchDownY;
     }
@@ -1,7 +1,11 @@
 package com.reactnativenavigation.views.collapsingToolbar;
 
+import android.support.annotation.Nullable;
 import android.view.MotionEvent;
 
 public interface  OnScrollListener extends OnFlingListener {
-    void onScroll(MotionEvent event, CollapseAmount amount);
+    /**
+     * @param event the touch event which caused the collapse, null when collapsing from a scroll offset
+     */
+    void onScroll(@Nullable MotionEvent event, CollapseAmount amount);
 }
@@ -1,5 +1,6 @@
 package com.reactnativenavigation.views.collapsingToolbar;
 
+import android.support.annotation.Nullable;
 import android.view.MotionEvent;
 import android.widget.ScrollView;
 
@@ -11,6 +12,7 @@ public class ScrollListener {
     private CollapseCalculator collapseCalculator;
     private OnScrollListener scrollListener;
     private CollapseBehaviour collapseBehaviour;
+    private @Nullable ScrollOffsetTracker scrollOffsetTracker;
 
     public ScrollListener(CollapseCalculator collapseCalculator, OnScrollListener scrollListener,
                           CollapseBehaviour collapseBehaviour) {
@@ -20,8 +22,27 @@ public class ScrollListener {
         collapseCalculator.setFlingListener(scrollListener);
     }
 
+    /**
+     * Collapses from the scroll offsets of the screen's content, touches on the top bar itself go through onTouch
+     */
+    public ScrollOffsetTracker getScrollOffsetTracker() {
+        if (scrollOffsetTracker == null) {
+            scrollOffsetTracker = new ScrollOffsetTracker(collapseCalculator.getCollapsingView(), scrollListener, collapseBehaviour);
+        }
+        return scrollOffsetTracker;
+    }
+
     void onScrollViewAdded(ScrollView scrollView) {
         collapseCalculator.setScrollView(scrollView);
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.setScrollView(scrollView);
+        }
+    }
+
+    void onScrollViewRemoved() {
+        if (scrollOffsetTracker != null) {
+            scrollOffsetTracker.setScrollView(null);
+        }
     }
 
     boolean onTouch(MotionEvent event) {
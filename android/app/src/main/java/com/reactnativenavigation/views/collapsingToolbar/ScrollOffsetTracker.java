@@ -0,0 +1,267 @@
+package com.reactnativenavigation.views.collapsingToolbar;
+
+import android.support.annotation.Nullable;
+import android.view.Choreographer;
+import android.view.MotionEvent;
+import android.view.ViewConfiguration;
+import android.view.ViewTreeObserver;
+import android.widget.ScrollView;
+
+import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseBehaviour;
+
+/**
+ * Collapses the top bar by the distance the content scrolled. ScrollViews are observed with an OnScrollChangedListener,
+ * other scrollables like RecyclerView report their scrolls through nested scrolling. Since the top bar follows the content,
+ * it moves with the content's own fling. Once the content stops, the top bar snaps to the closest edge at the speed
+ * the content last moved at. Everything runs on the UI thread, once per frame.
+ * When the content is translated along with the top bar, the top bar consumes the distance it moves, so the content
+ * doesn't move by both its scroll and its translation.
+ */
+public class ScrollOffsetTracker implements ViewTreeObserver.OnScrollChangedListener, Choreographer.FrameCallback {
+    private static final long IDLE_NANOS = 50 * 1000000L;
+    private static final long VELOCITY_RESET_NANOS = 100 * 1000000L;
+    private static final int MIN_SNAP_DURATION = 80;
+    private static final int MAX_SNAP_DURATION = 250;
+    private static final int DEFAULT_SNAP_DURATION = 160;
+    private static final int UNKNOWN_OFFSET = Integer.MAX_VALUE;
+
+    private final CollapsingView view;
+    private final OnScrollListener listener;
+    private final CollapseBehaviour collapseBehaviour;
+    private final CollapseAmount amount = new CollapseAmount();
+    private final float minimumSnapVelocity;
+    private @Nullable ScrollView scrollView;
+    private boolean contentFollowsTopBar;
+    private float unconsumedTranslation;
+    private int lastScrollY;
+    private boolean isTouching;
+    private boolean isNestedScrolling;
+    private float velocity;
+    private long lastScrollNanos;
+    private boolean isFrameCallbackPosted;
+    private boolean isSnapping;
+    private float snapFrom;
+    private float snapTo;
+    private long snapStartNanos;
+    private long snapDurationNanos;
+
+    ScrollOffsetTracker(CollapsingView view, OnScrollListener listener, CollapseBehaviour collapseBehaviour) {
+        this.view = view;
+        this.listener = listener;
+        this.collapseBehaviour = collapseBehaviour;
+        minimumSnapVelocity = ViewConfiguration.get(view.asView().getContext()).getScaledMinimumFlingVelocity() / 1000f;
+    }
+
+    void setScrollView(@Nullable ScrollView scrollView) {
+        this.scrollView = scrollView;
+        lastScrollY = scrollView == null ? 0 : scrollView.getScrollY();
+    }
+
+    /**
+     * Set when the content's container is translated with the top bar, i.e. when the screen is drawn below the top bar
+     */
+    public void setContentFollowsTopBar(boolean contentFollowsTopBar) {
+        this.contentFollowsTopBar = contentFollowsTopBar;
+    }
+
+    @Override
+    public void onScrollChanged() {
+        if (scrollView == null || isNestedScrolling) {
+            return;
+        }
+        int scrollY = scrollView.getScrollY();
+        int dy = scrollY - lastScrollY;
+        lastScrollY = scrollY;
+        float translated = onScrolled(dy, scrollY);
+        if (contentFollowsTopBar) {
+            scrollBack(translated);
+        }
+    }
+
+    /**
+     * Undoes the part of the scroll the content's translation already moved it by
+     */
+    private void scrollBack(float translated) {
+        if (scrollView == null) {
+            return;
+        }
+        unconsumedTranslation += translated;
+        int dy = (int) unconsumedTranslation;
+        if (dy != 0) {
+            unconsumedTranslation -= dy;
+            scrollView.scrollBy(0, dy);
+            lastScrollY = scrollView.getScrollY();
+        }
+    }
+
+    /**
+     * Touches are only observed, they're never consumed
+     */
+    public void onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                isTouching = true;
+                isSnapping = false;
+                break;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                isTouching = false;
+                postFrameCallback();
+                break;
+        }
+    }
+
+    public void onNestedScrollStarted() {
+        isNestedScrolling = true;
+    }
+
+    /**
+     * When the content follows the top bar, the top bar moves before the content scrolls and consumes that distance
+     * @return the distance consumed
+     */
+    public int onNestedPreScroll(int dy) {
+        if (!contentFollowsTopBar || dy == 0 || (dy < 0 && !collapseBehaviour.canExpend(UNKNOWN_OFFSET))) {
+            return 0;
+        }
+        return -Math.round(onScrolled(dy, UNKNOWN_OFFSET));
+    }
+
+    /**
+     * Scrolls which weren't consumed towards the top mean the content is at its top
+     */
+    public void onNestedScroll(int dyConsumed, int dyUnconsumed) {
+        if (!contentFollowsTopBar) {
+            onScrolled(dyConsumed, UNKNOWN_OFFSET);
+        }
+        if (dyUnconsumed < 0) {
+            onScrolled(dyUnconsumed, 0);
+        }
+    }
+
+    /**
+     * @param velocityY in pixels per second
+     */
+    public void onNestedFling(float velocityY) {
+        velocity = velocityY / 1000f;
+    }
+
+    public void onNestedScrollStopped() {
+        isNestedScrolling = false;
+        if (scrollView != null) {
+            lastScrollY = scrollView.getScrollY();
+        }
+        postFrameCallback();
+    }
+
+    public void destroy() {
+        scrollView = null;
+        isSnapping = false;
+        if (isFrameCallbackPosted) {
+            isFrameCallbackPosted = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    /**
+     * @param dy positive when the content scrolls towards its end
+     * @param offset the content's scroll offset after the scroll, or UNKNOWN_OFFSET
+     * @return the distance the top bar moved
+     */
+    private float onScrolled(int dy, int offset) {
+        if (dy == 0) {
+            return 0;
+        }
+        isSnapping = false;
+        updateVelocity(dy);
+        float translation = view.getCurrentCollapseValue();
+        float translated = 0;
+        if (dy > 0 || collapseBehaviour.canExpend(offset)) {
+            translated = setTranslation(translation - dy);
+        } else if (offset != UNKNOWN_OFFSET && !contentFollowsTopBar) {
+            translated = setTranslation(Math.max(translation, -offset));
+        }
+        postFrameCallback();
+        return translated;
+    }
+
+    private void updateVelocity(int dy) {
+        long now = System.nanoTime();
+        long elapsed = now - lastScrollNanos;
+        lastScrollNanos = now;
+        if (elapsed > VELOCITY_RESET_NANOS) {
+            velocity = 0;
+            return;
+        }
+        float instantVelocity = dy / Math.max(1f, elapsed / 1000000f);
+        velocity = (velocity + instantVelocity) / 2;
+    }
+
+    /**
+     * @return the distance the top bar moved
+     */
+    private float setTranslation(float translation) {
+        float finalCollapseValue = view.getFinalCollapseValue();
+        if (finalCollapseValue >= 0) {
+            return 0;
+        }
+        translation = Math.min(0, Math.max(finalCollapseValue, translation));
+        float current = view.getCurrentCollapseValue();
+        if (translation == current) {
+            return 0;
+        }
+        listener.onScroll(null, amount.set(translation));
+        return translation - current;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        isFrameCallbackPosted = false;
+        if (isSnapping) {
+            float fraction = Math.min(1, (float) (frameTimeNanos - snapStartNanos) / snapDurationNanos);
+            float interpolated = 1 - (1 - fraction) * (1 - fraction);
+            setTranslation(snapFrom + (snapTo - snapFrom) * interpolated);
+            isSnapping = fraction < 1;
+            if (isSnapping) {
+                postFrameCallback();
+            }
+            return;
+        }
+        if (isTouching || isNestedScrolling) {
+            return;
+        }
+        if (System.nanoTime() - lastScrollNanos < IDLE_NANOS) {
+            postFrameCallback();
+        } else {
+            snap();
+        }
+    }
+
+    /**
+     * The snap decelerates, it starts at the velocity of the content's last scroll when its duration allows it
+     */
+    private void snap() {
+        if (!collapseBehaviour.shouldCollapseOnTouchUp()) {
+            return;
+        }
+        float translation = view.getCurrentCollapseValue();
+        float finalCollapseValue = view.getFinalCollapseValue();
+        if (finalCollapseValue >= 0 || translation == 0 || translation == finalCollapseValue) {
+            return;
+        }
+        boolean collapse = Math.abs(velocity) >= minimumSnapVelocity ? velocity > 0 : translation / finalCollapseValue >= 0.5f;
+        snapFrom = translation;
+        snapTo = collapse ? finalCollapseValue : 0;
+        float duration = velocity == 0 ? DEFAULT_SNAP_DURATION : 2 * Math.abs(snapTo - snapFrom) / Math.abs(velocity);
+        snapDurationNanos = (long) Math.min(MAX_SNAP_DURATION, Math.max(MIN_SNAP_DURATION, duration)) * 1000000L;
+        snapStartNanos = System.nanoTime();
+        isSnapping = true;
+        postFrameCallback();
+    }
+
+    private void postFrameCallback() {
+        if (!isFrameCallbackPosted) {
+            isFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package com.reactnativenavigation.views.collapsingToolbar;
 
-import android.view.MotionEvent;
-import android.view.View;
 import android.widget.ScrollView;
 
-public class ScrollViewDelegate implements View.OnTouchListener {
+public class ScrollViewDelegate {
     private ScrollView scrollView;
     private ScrollListener listener;
 
@@ -27,16 +25,7 @@ public class ScrollViewDelegate implements View.OnTouchListener {
 
     public void onScrollViewRemoved() {
         this.scrollView = null;
-    }
-
-    public boolean didInterceptTouchEvent(MotionEvent ev) {
-        return listener.onTouch(ev);
-    }
-
-    @Override
-    public boolean onTouch(View view, MotionEvent event) {
-        scrollView.onTouchEvent(event);
-        return this.listener.onTouch(event);
+        listener.onScrollViewRemoved();
     }
 
     public void destroy() {
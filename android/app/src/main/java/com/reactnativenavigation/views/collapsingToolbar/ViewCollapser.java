@@ -22,6 +22,9 @@ public class ViewCollapser {
             };
     private ViewPropertyAnimator animator;
     private ObjectAnimator flingAnimator;
+    private final CollapseAmount flingAmount = new CollapseAmount();
+    private float flingStartTranslation;
+    private float flingEndTranslation;
 
     public ViewCollapser(CollapsingView view) {
         this.view = view;
@@ -72,8 +75,9 @@ public class ViewCollapser {
         fling(amount, new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                titleBar.collapse(new CollapseAmount((Float) animation.getAnimatedValue()));
-                header.collapse((Float) animation.getAnimatedValue());
+                float translation = getFlingTranslation(animation);
+                titleBar.collapse(flingAmount.set(translation));
+                header.collapse(translation);
             }
         });
     }
@@ -82,7 +86,7 @@ public class ViewCollapser {
         fling(amount, new ValueAnimator.AnimatorUpdateListener() {
             @Override
             public void onAnimationUpdate(ValueAnimator animation) {
-                titleBar.collapse(new CollapseAmount((Float) animation.getAnimatedValue()));
+                titleBar.collapse(flingAmount.set(getFlingTranslation(animation)));
             }
         });
     }
@@ -93,22 +97,12 @@ public class ViewCollapser {
 
     private void fling(final CollapseAmount amount, @NonNull final ValueAnimator.AnimatorUpdateListener updateListener) {
         cancelAnimator();
-        final float translation = amount.collapseToTop() ? view.getFinalCollapseValue() : 0;
-        flingAnimator = ObjectAnimator.ofFloat(view.asView(), View.TRANSLATION_Y, translation);
+        flingStartTranslation = view.asView().getTranslationY();
+        flingEndTranslation = amount.collapseToTop() ? view.getFinalCollapseValue() : 0;
+        flingAnimator = ObjectAnimator.ofFloat(view.asView(), View.TRANSLATION_Y, flingEndTranslation);
         flingAnimator.setDuration(FLING_DURATION);
         flingAnimator.setInterpolator(new DecelerateInterpolator());
-        flingAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                updateListener.onAnimationUpdate(animation);
-            }
-        });
-        flingAnimator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
-            @Override
-            public void onAnimationUpdate(ValueAnimator animation) {
-                updateListener.onAnimationUpdate(animation);
-            }
-        });
+        flingAnimator.addUpdateListener(updateListener);
         flingAnimator.addListener(new AnimatorListenerAdapter() {
             @Override
             public void onAnimationCancel(Animator animation) {
@@ -123,6 +117,13 @@ public class ViewCollapser {
 
     }
 
+    /**
+     * Calculated from the interpolated fraction rather than read with getAnimatedValue, which boxes the value every frame
+     */
+    private float getFlingTranslation(ValueAnimator animation) {
+        return flingStartTranslation + (flingEndTranslation - flingStartTranslation) * animation.getAnimatedFraction();
+    }
+
     private void cancelAnimator() {
         if (animator != null) {
             animator.cancel();
@@ -0,0 +1,104 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.AnimatorSet;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Animates shared elements as ghosts drawn in the overlay of the screen. The elements stay in their React parents and
+ * are hidden with alpha while their ghosts are animated, so neither screen is laid out during the transition.
+ * Images are clipped but their scale type isn't interpolated, the element is drawn with its own scale type.
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
+public class OverlaySharedElementsAnimator extends SharedElementsAnimator {
+    private final ViewGroup host;
+    private final SharedElements sharedElements;
+    private final List<SharedElementGhost> ghosts = new ArrayList<>();
+
+    public OverlaySharedElementsAnimator(ViewGroup host, SharedElements sharedElements) {
+        super(sharedElements);
+        this.host = host;
+        this.sharedElements = sharedElements;
+    }
+
+    @Override
+    public void show(final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        sharedElements.setToElementsAlpha(0);
+        sharedElements.performWhenChildViewsAreDrawn(new Runnable() {
+            @Override
+            public void run() {
+                sharedElements.planTransitions();
+                List<Animator> animators = new ArrayList<>();
+                for (String key : sharedElements.toElements.keySet()) {
+                    SharedElementTransitionPlan plan = sharedElements.getShowPlan(key);
+                    animators.addAll(createGhostAnimators(plan.to, plan.show));
+                }
+                sharedElements.setFromElementsAlpha(0);
+                start(animators, onAnimationStart, new Runnable() {
+                    @Override
+                    public void run() {
+                        sharedElements.setToElementsAlpha(1);
+                        onAnimationEnd.run();
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public void hide(Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        List<Animator> animators = new ArrayList<>();
+        for (String key : sharedElements.toElements.keySet()) {
+            SharedElementTransitionPlan plan = sharedElements.getHidePlan(key);
+            animators.addAll(createGhostAnimators(plan.to, plan.hide));
+        }
+        sharedElements.setFromElementsAlpha(0);
+        start(animators, onAnimationStart, new Runnable() {
+            @Override
+            public void run() {
+                sharedElements.setToElementsAlpha(1);
+                sharedElements.showToElements();
+                onAnimationEnd.run();
+            }
+        });
+    }
+
+    private List<Animator> createGhostAnimators(SharedElementTransition element, SharedElementTransitionPlan.Values values) {
+        SharedElementGhost ghost = new SharedElementGhost(element.getSharedView(), host, values.hasColorChange());
+        host.getOverlay().add(ghost);
+        ghosts.add(ghost);
+        return new SharedElementAnimatorCreator(ghost, values).create();
+    }
+
+    private void start(List<Animator> animators, final Runnable onAnimationStart, final Runnable onAnimationEnd) {
+        AnimatorSet animatorSet = new AnimatorSet();
+        animatorSet.playTogether(animators);
+        animatorSet.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animation) {
+                onAnimationStart.run();
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                removeGhosts();
+                onAnimationEnd.run();
+            }
+        });
+        animatorSet.start();
+    }
+
+    private void removeGhosts() {
+        for (SharedElementGhost ghost : ghosts) {
+            host.getOverlay().remove(ghost);
+            ghost.destroy();
+        }
+        ghosts.clear();
+    }
+}
@@ -3,19 +3,14 @@ package com.reactnativenavigation.views.sharedElementTransition;
 import android.animation.Animator;
 import android.animation.ObjectAnimator;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Property;
 import android.view.View;
 
 import com.facebook.drawee.drawable.ScalingUtils;
 import com.facebook.drawee.generic.GenericDraweeHierarchy;
 import com.facebook.drawee.view.DraweeView;
-import com.reactnativenavigation.params.InterpolationParams;
-import com.reactnativenavigation.params.PathInterpolationParams;
 import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
-import com.reactnativenavigation.views.utils.AnimatorPath;
-import com.reactnativenavigation.views.utils.ClipBoundsEvaluator;
-import com.reactnativenavigation.views.utils.ColorUtils;
-import com.reactnativenavigation.views.utils.LabColorEvaluator;
-import com.reactnativenavigation.views.utils.PathEvaluator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,156 +18,170 @@ import java.util.List;
 import static android.animation.ObjectAnimator.ofFloat;
 
 class SharedElementAnimatorCreator {
-    private final SharedElementTransition from;
-    private final SharedElementTransition to;
+    private final Object to;
+    private final @Nullable View view;
+    private final SharedElementTransitionPlan.Values values;
+    private final SharedElementTransitionParams params;
 
-    SharedElementAnimatorCreator(SharedElementTransition from, SharedElementTransition to) {
-        this.from = from;
-        this.to = to;
+    SharedElementAnimatorCreator(SharedElementTransition to, SharedElementTransitionPlan.Values values) {
+        this(to, to.getSharedView(), values);
     }
 
-    List<Animator> createShow() {
-        return create(new AnimatorValuesResolver(from, to, to.showTransitionParams), to.showTransitionParams);
+    /**
+     * Animates the ghost instead of the element, the image scale type of the element isn't animated
+     */
+    SharedElementAnimatorCreator(SharedElementGhost ghost, SharedElementTransitionPlan.Values values) {
+        this(ghost, null, values);
     }
 
-    List<Animator> createHide() {
-        return create(new ReversedAnimatorValuesResolver(to, from, to.hideTransitionParams), to.hideTransitionParams);
+    private SharedElementAnimatorCreator(Object to, @Nullable View view, SharedElementTransitionPlan.Values values) {
+        this.to = to;
+        this.view = view;
+        this.values = values;
+        this.params = values.params;
     }
 
     @NonNull
-    private List<Animator> create(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
+    List<Animator> create() {
         List<Animator> result = new ArrayList<>();
-        if (shouldAddCurvedMotionAnimator(resolver, params.interpolation)) {
-            result.add(createCurvedMotionAnimator(resolver, params));
+        if (shouldAddCurvedMotionAnimator()) {
+            result.add(createCurvedMotionAnimator());
         } else {
-            if (shouldAddLinearMotionXAnimator(resolver)) {
-                result.add(createXAnimator(resolver, params));
+            if (shouldAddLinearMotionXAnimator()) {
+                result.add(createXAnimator());
             }
-            if (shouldAddLinearMotionYAnimator(resolver)) {
-                result.add(createYAnimator(resolver, params));
+            if (shouldAddLinearMotionYAnimator()) {
+                result.add(createYAnimator());
             }
         }
-        if (shouldAddScaleXAnimator(resolver, params)) {
-            result.add(createScaleXAnimator(resolver, params));
+        if (shouldAddScaleXAnimator()) {
+            result.add(createScaleXAnimator());
         }
-        if (shouldAddScaleYAnimator(resolver, params)) {
-            result.add(createScaleYAnimator(resolver, params));
+        if (shouldAddScaleYAnimator()) {
+            result.add(createScaleYAnimator());
         }
-        if (shouldAddColorAnimator(resolver)) {
-            result.add(createColorAnimator(resolver, params.duration));
+        if (shouldAddColorAnimator()) {
+            result.add(createColorAnimator());
         }
-        if (shouldAddImageClipBoundsAnimator(params)) {
-            result.add(createImageClipBoundsAnimator(resolver, params));
-            result.add(createImageTransformAnimator(resolver, params));
+        if (shouldAddImageClipBoundsAnimator()) {
+            result.add(createImageClipBoundsAnimator());
+            if (view != null) {
+                result.add(createImageTransformAnimator());
+            }
         }
         return result;
     }
 
-    private boolean shouldAddScaleYAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        return resolver.startScaleY != resolver.endScaleY && !params.animateClipBounds;
+    private boolean shouldAddScaleYAnimator() {
+        return values.startScaleY != values.endScaleY && !params.animateClipBounds;
     }
 
-    private boolean shouldAddScaleXAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        return resolver.startScaleX != resolver.endScaleX && !params.animateClipBounds;
+    private boolean shouldAddScaleXAnimator() {
+        return values.startScaleX != values.endScaleX && !params.animateClipBounds;
     }
 
-    private boolean shouldAddLinearMotionXAnimator(AnimatorValuesResolver resolver) {
-        return resolver.dx != 0;
+    private boolean shouldAddLinearMotionXAnimator() {
+        return values.dx != 0;
     }
 
-    private boolean shouldAddLinearMotionYAnimator(AnimatorValuesResolver resolver) {
-        return resolver.dy != 0;
+    private boolean shouldAddLinearMotionYAnimator() {
+        return values.dy != 0;
     }
 
-    private boolean shouldAddCurvedMotionAnimator(AnimatorValuesResolver resolver, InterpolationParams interpolation) {
-        return interpolation instanceof PathInterpolationParams && (resolver.dx != 0 || resolver.dy != 0);
+    private boolean shouldAddCurvedMotionAnimator() {
+        return values.path != null;
     }
 
-    private boolean shouldAddColorAnimator(AnimatorValuesResolver resolver) {
-        return resolver.startColor != resolver.endColor;
+    private boolean shouldAddColorAnimator() {
+        return values.hasColorChange();
     }
 
-    private boolean shouldAddImageClipBoundsAnimator(SharedElementTransitionParams params) {
+    private boolean shouldAddImageClipBoundsAnimator() {
         return params.animateClipBounds;
     }
 
-    private ObjectAnimator createCurvedMotionAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        AnimatorPath path = new AnimatorPath();
-        path.moveTo(resolver.startX, resolver.startY);
-        path.curveTo(resolver.controlX1, resolver.controlY1, resolver.controlX2, resolver.controlY2, resolver.endX, resolver.endY);
+    private ObjectAnimator createCurvedMotionAnimator() {
         ObjectAnimator animator = ObjectAnimator.ofObject(
                 to,
                 "curvedMotion",
-                new PathEvaluator(),
-                path.getPoints().toArray());
+                values.pathEvaluator,
+                values.path);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         animator.setDuration(params.duration);
         return animator;
     }
 
-    private ObjectAnimator createXAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        ObjectAnimator animator = ofFloat(to.getSharedView(), View.TRANSLATION_X, resolver.startX, resolver.endX)
+    private ObjectAnimator createXAnimator() {
+        ObjectAnimator animator = ofTransform(View.TRANSLATION_X, values.startX, values.endX)
                 .setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
 
-    private ObjectAnimator createYAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        ObjectAnimator animator = ofFloat(to.getSharedView(), View.TRANSLATION_Y, resolver.startY, resolver.endY)
+    private ObjectAnimator createYAnimator() {
+        ObjectAnimator animator = ofTransform(View.TRANSLATION_Y, values.startY, values.endY)
                 .setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
 
-    private ObjectAnimator createScaleXAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        to.getSharedView().setPivotX(0);
+    private ObjectAnimator createScaleXAnimator() {
+        if (view != null) {
+            view.setPivotX(0);
+        }
         ObjectAnimator animator =
-                ofFloat(to.getSharedView(), View.SCALE_X, resolver.startScaleX, resolver.endScaleX)
+                ofTransform(View.SCALE_X, values.startScaleX, values.endScaleX)
                         .setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
 
-    private ObjectAnimator createScaleYAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
-        to.getSharedView().setPivotY(0);
+    private ObjectAnimator createScaleYAnimator() {
+        if (view != null) {
+            view.setPivotY(0);
+        }
         ObjectAnimator animator =
-                ofFloat(to.getSharedView(), View.SCALE_Y, resolver.startScaleY, resolver.endScaleY)
+                ofTransform(View.SCALE_Y, values.startScaleY, values.endScaleY)
                         .setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
 
-    private ObjectAnimator createColorAnimator(AnimatorValuesResolver resolver, int duration) {
+    private ObjectAnimator createColorAnimator() {
         return ObjectAnimator.ofObject(
                 to,
                 "textColor",
-                new LabColorEvaluator(),
-                ColorUtils.colorToLAB(resolver.startColor),
-                ColorUtils.colorToLAB(resolver.endColor))
-                .setDuration(duration);
+                values.colorEvaluator,
+                values.startColor,
+                values.endColor)
+                .setDuration(params.duration);
     }
 
-    private ObjectAnimator createImageClipBoundsAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
+    private ObjectAnimator createImageClipBoundsAnimator() {
         ObjectAnimator animator = ObjectAnimator.ofObject(
                 to,
                 "clipBounds",
-                new ClipBoundsEvaluator(),
-                resolver.startDrawingRect,
-                resolver.endDrawingRect)
+                values.clipBoundsEvaluator,
+                values.startDrawingRect,
+                values.endDrawingRect)
                 .setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
-    private Animator createImageTransformAnimator(AnimatorValuesResolver resolver, SharedElementTransitionParams params) {
+    private Animator createImageTransformAnimator() {
         ScalingUtils.InterpolatingScaleType ist = new ScalingUtils.InterpolatingScaleType(
-                resolver.fromScaleType,
-                resolver.toScaleType,
-                resolver.fromBounds,
-                resolver.toBounds
+                values.fromScaleType,
+                values.toScaleType,
+                values.fromBounds,
+                values.toBounds
         );
-        ((DraweeView<GenericDraweeHierarchy>) to.getSharedView()).getHierarchy().setActualImageScaleType(ist);
+        ((DraweeView<GenericDraweeHierarchy>) view).getHierarchy().setActualImageScaleType(ist);
         ObjectAnimator animator = ObjectAnimator.ofFloat(to, "matrixTransform", 0, 1).setDuration(params.duration);
         animator.setInterpolator(params.interpolation.easing.getInterpolator());
         return animator;
     }
+
+    private ObjectAnimator ofTransform(Property<View, Float> property, float start, float end) {
+        return view == null ? ofFloat(to, property.getName(), start, end) : ofFloat(view, property, start, end);
+    }
 }
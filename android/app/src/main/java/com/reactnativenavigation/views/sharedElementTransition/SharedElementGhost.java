@@ -0,0 +1,141 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.Keep;
+import android.support.annotation.Nullable;
+import android.view.View;
+
+import com.reactnativenavigation.views.utils.ColorUtils;
+import com.reactnativenavigation.views.utils.PathPoint;
+
+/**
+ * Draws a shared element in the overlay of a host view, at the element's position in the host plus the animated
+ * translation and scale. The element itself is drawn every frame, so it's never removed from its parent.
+ * Text whose color is animated is drawn as an alpha mask captured when the ghost is created, tinted with the paint color.
+ */
+class SharedElementGhost extends Drawable {
+    private final View view;
+    private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final int left;
+    private final int top;
+    private @Nullable Bitmap textMask;
+    private @Nullable Rect clipBounds;
+    private float translationX;
+    private float translationY;
+    private float scaleX = 1;
+    private float scaleY = 1;
+
+    SharedElementGhost(View view, View host, boolean drawTextMask) {
+        this.view = view;
+        int[] location = new int[2];
+        host.getLocationOnScreen(location);
+        int hostX = location[0];
+        int hostY = location[1];
+        view.getLocationOnScreen(location);
+        left = location[0] - hostX;
+        top = location[1] - hostY;
+        if (drawTextMask) {
+            textMask = createTextMask(view);
+        }
+        setBounds(0, 0, host.getWidth(), host.getHeight());
+    }
+
+    @Nullable
+    private static Bitmap createTextMask(View view) {
+        if (view.getWidth() == 0 || view.getHeight() == 0) {
+            return null;
+        }
+        Bitmap bitmap = Bitmap.createBitmap(view.getWidth(), view.getHeight(), Bitmap.Config.ARGB_8888);
+        view.draw(new Canvas(bitmap));
+        Bitmap mask = bitmap.extractAlpha();
+        bitmap.recycle();
+        return mask;
+    }
+
+    @Keep
+    public void setCurvedMotion(PathPoint xy) {
+        translationX = xy.mX;
+        translationY = xy.mY;
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setTranslationX(float translationX) {
+        this.translationX = translationX;
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setTranslationY(float translationY) {
+        this.translationY = translationY;
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setScaleX(float scaleX) {
+        this.scaleX = scaleX;
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setScaleY(float scaleY) {
+        this.scaleY = scaleY;
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setTextColor(double[] color) {
+        paint.setColor(ColorUtils.labToColor(color));
+        invalidateSelf();
+    }
+
+    @Keep
+    public void setClipBounds(Rect clipBounds) {
+        this.clipBounds = clipBounds;
+        invalidateSelf();
+    }
+
+    @Override
+    public void draw(Canvas canvas) {
+        int saveCount = canvas.save();
+        canvas.translate(left + translationX, top + translationY);
+        canvas.scale(scaleX, scaleY);
+        if (clipBounds != null) {
+            canvas.clipRect(clipBounds);
+        }
+        if (textMask != null) {
+            canvas.drawBitmap(textMask, 0, 0, paint);
+        } else {
+            view.draw(canvas);
+        }
+        canvas.restoreToCount(saveCount);
+    }
+
+    @Override
+    public void setAlpha(int alpha) {
+        paint.setAlpha(alpha);
+    }
+
+    @Override
+    public void setColorFilter(ColorFilter colorFilter) {
+        paint.setColorFilter(colorFilter);
+    }
+
+    @Override
+    public int getOpacity() {
+        return PixelFormat.TRANSLUCENT;
+    }
+
+    void destroy() {
+        if (textMask != null) {
+            textMask.recycle();
+            textMask = null;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.graphics.Rect;
+import android.text.style.ForegroundColorSpan;
+import android.view.View;
+import android.widget.TextView;
+
+import com.facebook.drawee.drawable.ScalingUtils;
+import com.facebook.drawee.generic.GenericDraweeHierarchy;
+import com.facebook.drawee.view.DraweeView;
+import com.facebook.react.views.image.ReactImageView;
+import com.reactnativenavigation.params.PathInterpolationParams;
+import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
+import com.reactnativenavigation.utils.ViewUtils;
+import com.reactnativenavigation.views.utils.AnimatorPath;
+import com.reactnativenavigation.views.utils.ClipBoundsEvaluator;
+import com.reactnativenavigation.views.utils.ColorUtils;
+import com.reactnativenavigation.views.utils.LabColorEvaluator;
+import com.reactnativenavigation.views.utils.PathEvaluator;
+
+/**
+ * The values of a shared element transition, measured once before the element is shown.
+ * Show values animate the pushed screen's element from the previous screen's element, hide values are the same
+ * values inverted and are reused when the screen is popped, unless one of the elements moved or was resized.
+ * Paths, Lab colors and evaluators are created with the plan, so creating the animators doesn't compute them.
+ */
+class SharedElementTransitionPlan {
+    final SharedElementTransition from;
+    final SharedElementTransition to;
+    final Values show;
+    final Values hide;
+    private final int[] location = new int[2];
+    private final int fromX;
+    private final int fromY;
+    private final int fromWidth;
+    private final int fromHeight;
+    private final int toX;
+    private final int toY;
+    private final int toWidth;
+    private final int toHeight;
+
+    SharedElementTransitionPlan(SharedElementTransition from, SharedElementTransition to) {
+        this.from = from;
+        this.to = to;
+        measureLocation(from);
+        fromX = location[0];
+        fromY = location[1];
+        measureLocation(to);
+        toX = location[0];
+        toY = location[1];
+        fromWidth = from.getWidth();
+        fromHeight = from.getHeight();
+        toWidth = to.getWidth();
+        toHeight = to.getHeight();
+        show = new Values(to.showTransitionParams);
+        hide = new Values(to.hideTransitionParams);
+        resolve();
+    }
+
+    /**
+     * @return true if the plan was measured for these elements and neither of them moved or was resized since
+     */
+    boolean isValidFor(SharedElementTransition from, SharedElementTransition to) {
+        return this.from == from &&
+               this.to == to &&
+               from.getWidth() == fromWidth &&
+               from.getHeight() == fromHeight &&
+               to.getWidth() == toWidth &&
+               to.getHeight() == toHeight &&
+               isAt(from, fromX, fromY) &&
+               isAt(to, toX, toY);
+    }
+
+    private boolean isAt(SharedElementTransition element, int x, int y) {
+        measureLocation(element);
+        return location[0] == x && location[1] == y;
+    }
+
+    private void measureLocation(SharedElementTransition element) {
+        element.getSharedView().getLocationOnScreen(location);
+    }
+
+    private void resolve() {
+        int dx = fromX - toX;
+        int dy = fromY - toY;
+        float scaleX = ((float) fromWidth) / toWidth;
+        float scaleY = ((float) fromHeight) / toHeight;
+        Rect fromDrawingRect = new Rect();
+        Rect toDrawingRect = new Rect();
+        from.getDrawingRect(fromDrawingRect);
+        to.getDrawingRect(toDrawingRect);
+        Rect fromBounds = getBounds(from);
+        Rect toBounds = getBounds(to);
+        ScalingUtils.ScaleType fromScaleType = getScaleType(from);
+        ScalingUtils.ScaleType toScaleType = getScaleType(to);
+
+        show.dx = hide.dx = dx;
+        show.dy = hide.dy = dy;
+
+        show.startX = dx;
+        show.startY = dy;
+        show.startScaleX = scaleX;
+        show.endScaleX = 1;
+        show.startScaleY = scaleY;
+        show.endScaleY = 1;
+        show.startDrawingRect = fromDrawingRect;
+        show.endDrawingRect = toDrawingRect;
+        show.fromBounds = fromBounds;
+        show.toBounds = toBounds;
+        show.fromScaleType = fromScaleType;
+        show.toScaleType = toScaleType;
+
+        hide.endX = dx;
+        hide.endY = dy;
+        hide.startScaleX = 1;
+        hide.endScaleX = scaleX;
+        hide.startScaleY = 1;
+        hide.endScaleY = scaleY;
+        hide.startDrawingRect = toDrawingRect;
+        hide.endDrawingRect = fromDrawingRect;
+        hide.fromBounds = toBounds;
+        hide.toBounds = fromBounds;
+        hide.fromScaleType = toScaleType;
+        hide.toScaleType = fromScaleType;
+
+        resolveColors();
+        show.resolvePath();
+        hide.resolvePath();
+    }
+
+    private void resolveColors() {
+        if (from.getSharedView() instanceof TextView && to.getSharedView() instanceof TextView) {
+            int fromColor = getColor((TextView) from.getSharedView());
+            int toColor = getColor((TextView) to.getSharedView());
+            if (fromColor != toColor) {
+                double[] fromLab = ColorUtils.colorToLAB(fromColor);
+                double[] toLab = ColorUtils.colorToLAB(toColor);
+                show.startColor = hide.endColor = fromLab;
+                show.endColor = hide.startColor = toLab;
+            }
+        }
+    }
+
+    private int getColor(TextView view) {
+        ForegroundColorSpan[] spans = ViewUtils.getForegroundColorSpans(view);
+        return spans.length > 0 ? spans[0].getForegroundColor() : 0;
+    }
+
+    private Rect getBounds(SharedElementTransition element) {
+        View view = element.getSharedView();
+        if (view instanceof ReactImageView) {
+            return new Rect(0, 0, view.getWidth(), view.getHeight());
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScalingUtils.ScaleType getScaleType(SharedElementTransition element) {
+        if (element.getSharedView() instanceof ReactImageView) {
+            return ((DraweeView<GenericDraweeHierarchy>) element.getSharedView()).getHierarchy().getActualImageScaleType();
+        }
+        return null;
+    }
+
+    /**
+     * The values of one direction of the transition, relative to the shown element's layout position
+     */
+    static class Values {
+        final SharedElementTransitionParams params;
+        final PathEvaluator pathEvaluator = new PathEvaluator();
+        final LabColorEvaluator colorEvaluator = new LabColorEvaluator();
+        final ClipBoundsEvaluator clipBoundsEvaluator = new ClipBoundsEvaluator();
+        int dx;
+        int dy;
+        int startX;
+        int startY;
+        int endX;
+        int endY;
+        float startScaleX;
+        float endScaleX;
+        float startScaleY;
+        float endScaleY;
+        double[] startColor;
+        double[] endColor;
+        Rect startDrawingRect;
+        Rect endDrawingRect;
+        Rect fromBounds;
+        Rect toBounds;
+        ScalingUtils.ScaleType fromScaleType;
+        ScalingUtils.ScaleType toScaleType;
+        Object[] path;
+
+        Values(SharedElementTransitionParams params) {
+            this.params = params;
+        }
+
+        boolean hasColorChange() {
+            return startColor != null;
+        }
+
+        private void resolvePath() {
+            if (params.interpolation instanceof PathInterpolationParams && (dx != 0 || dy != 0)) {
+                PathInterpolationParams interpolation = (PathInterpolationParams) params.interpolation;
+                AnimatorPath animatorPath = new AnimatorPath();
+                animatorPath.moveTo(startX, startY);
+                animatorPath.curveTo(dx * interpolation.p1.x, dy * interpolation.p1.y, dx * interpolation.p2.x, dy * interpolation.p2.y, endX, endY);
+                path = animatorPath.getPoints().toArray();
+            }
+        }
+    }
+}
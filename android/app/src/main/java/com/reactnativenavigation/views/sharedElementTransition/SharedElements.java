@@ -14,6 +14,7 @@ public class SharedElements {
     // These need to be weak references or better yet - clear them in `onViewRemoved`
     Map<String, SharedElementTransition> toElements;
     private Map<String, SharedElementTransition> fromElements;
+    private final Map<String, SharedElementTransitionPlan> plans = new HashMap<>();
 
     public void setFromElements(Map<String, SharedElementTransition> fromElements) {
         this.fromElements.clear();
@@ -45,6 +46,35 @@ public class SharedElements {
         return toElements.get(key);
     }
 
+    /**
+     * Measures all elements in one pass, before they're attached to the screen for the show transition
+     */
+    void planTransitions() {
+        plans.clear();
+        for (String key : toElements.keySet()) {
+            plans.put(key, new SharedElementTransitionPlan(fromElements.get(key), toElements.get(key)));
+        }
+    }
+
+    SharedElementTransitionPlan getShowPlan(String key) {
+        return plans.get(key);
+    }
+
+    /**
+     * When hiding, the from elements are this screen's elements which were shown, so the plan is used inverted.
+     * It's measured again only if the elements changed since the show transition.
+     */
+    SharedElementTransitionPlan getHidePlan(String key) {
+        SharedElementTransition previousElement = getToElement(key);
+        SharedElementTransition element = getFromElement(key);
+        SharedElementTransitionPlan plan = plans.get(key);
+        if (plan == null || !plan.isValidFor(previousElement, element)) {
+            plan = new SharedElementTransitionPlan(previousElement, element);
+            plans.put(key, plan);
+        }
+        return plan;
+    }
+
     public void addToElement(SharedElementTransition sharedElement, String key) {
         toElements.put(key, sharedElement);
     }
@@ -118,6 +148,18 @@ public class SharedElements {
         }
     }
 
+    void setToElementsAlpha(float alpha) {
+        for (SharedElementTransition toElement : toElements.values()) {
+            toElement.getSharedView().setAlpha(alpha);
+        }
+    }
+
+    void setFromElementsAlpha(float alpha) {
+        for (SharedElementTransition fromElement : fromElements.values()) {
+            fromElement.getSharedView().setAlpha(alpha);
+        }
+    }
+
     void onHideAnimationStart() {
         for (SharedElementTransition fromElement : fromElements.values()) {
             fromElement.attachChildToScreen();
@@ -128,6 +170,7 @@ public class SharedElements {
     public void destroy() {
         toElements.clear();
         fromElements.clear();
+        plans.clear();
     }
 
     public void removeHiddenElements() {
@@ -136,6 +179,7 @@ public class SharedElements {
             String key = iterator.next();
             if (!ViewVisibilityChecker.check(toElements.get(key))) {
                 iterator.remove();
+                plans.remove(key);
                 fromElements.get(key).show();
             }
         }
@@ -19,6 +19,7 @@ public class SharedElementsAnimator {
         sharedElements.performWhenChildViewsAreDrawn(new Runnable()  {
             @Override
             public void run() {
+                sharedElements.planTransitions();
                 final AnimatorSet animatorSet = createShowAnimators();
                 sharedElements.attachChildViewsToScreen();
                 sharedElements.showToElements(new Runnable() {
@@ -56,9 +57,8 @@ public class SharedElementsAnimator {
             private List<Animator> createTransitionAnimators() {
                 List<Animator> result = new ArrayList<>();
                 for (String key : sharedElements.toElements.keySet()) {
-                    SharedElementTransition toElement = sharedElements.getToElement(key);
-                    SharedElementTransition fromElement = sharedElements.getFromElement(key);
-                    result.addAll(new SharedElementAnimatorCreator(fromElement, toElement).createShow());
+                    SharedElementTransitionPlan plan = sharedElements.getShowPlan(key);
+                    result.addAll(new SharedElementAnimatorCreator(plan.to, plan.show).create());
                 }
                 return result;
             }
@@ -87,7 +87,8 @@ public class SharedElementsAnimator {
     private List<Animator> createHideTransitionAnimators() {
         List<Animator> result = new ArrayList<>();
         for (String key : sharedElements.toElements.keySet()) {
-            result.addAll(new SharedElementAnimatorCreator(sharedElements.getToElement(key), sharedElements.getFromElement(key)).createHide());
+            SharedElementTransitionPlan plan = sharedElements.getHidePlan(key);
+            result.addAll(new SharedElementAnimatorCreator(plan.to, plan.hide).create());
         }
         return result;
     }
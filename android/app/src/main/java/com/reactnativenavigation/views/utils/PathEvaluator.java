@@ -25,6 +25,8 @@ import android.animation.TypeEvaluator;
  * PathPoints is always specified by the end point of that interval).
  */
 public class PathEvaluator implements TypeEvaluator<PathPoint> {
+    private final PathPoint point = PathPoint.moveTo(0, 0);
+
     @Override
     public PathPoint evaluate(float t, PathPoint startValue, PathPoint endValue) {
         float x, y;
@@ -45,6 +47,8 @@ public class PathEvaluator implements TypeEvaluator<PathPoint> {
             x = endValue.mX;
             y = endValue.mY;
         }
-        return PathPoint.moveTo(x, y);
+        point.mX = x;
+        point.mY = y;
+        return point;
     }
 }
@@ -0,0 +1,199 @@
+package com.reactnativenavigation.views.utils;
+
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the descendants of a view indexed by class and tag, so they can be found without walking the tree.
+ * The index is updated from an OnHierarchyChangeListener it sets on every ViewGroup in the hierarchy. Only the child
+ * which was added or removed is indexed, together with its subtree, and views which are already indexed are skipped.
+ * Tags are indexed as they are when the view is added.
+ * A ViewGroup can only have one OnHierarchyChangeListener, so other listeners must be set with
+ * {@link #setOnHierarchyChangeListener(ViewGroup, ViewGroup.OnHierarchyChangeListener)}. They're called after the index,
+ * and put back on their ViewGroup when the index stops listening to it. RadioGroup, TableLayout and TableRow keep
+ * their own listeners, since they chain the listener they're given behind their own.
+ */
+public class ViewHierarchyIndex {
+    public interface Listener {
+        void onViewAdded(View view);
+
+        void onViewRemoved(View view);
+    }
+
+    private final Set<View> views = new LinkedHashSet<>();
+    private final Map<Class<?>, Set<View>> viewsByClass = new HashMap<>();
+    private final Map<Object, View> viewsByTag = new HashMap<>();
+    private final Set<ViewGroup> listenedViewGroups = new HashSet<>();
+    private final Map<ViewGroup, ViewGroup.OnHierarchyChangeListener> chainedListeners = new WeakHashMap<>();
+    private final List<Class<?>> listenerClasses = new ArrayList<>();
+    private final List<Listener> listeners = new ArrayList<>();
+
+    private final ViewGroup.OnHierarchyChangeListener hierarchyChangeListener = new ViewGroup.OnHierarchyChangeListener() {
+        @Override
+        public void onChildViewAdded(View parent, View child) {
+            add(child);
+            ViewGroup.OnHierarchyChangeListener chained = chainedListeners.get(parent);
+            if (chained != null) {
+                chained.onChildViewAdded(parent, child);
+            }
+        }
+
+        @Override
+        public void onChildViewRemoved(View parent, View child) {
+            remove(child);
+            ViewGroup.OnHierarchyChangeListener chained = chainedListeners.get(parent);
+            if (chained != null) {
+                chained.onChildViewRemoved(parent, child);
+            }
+        }
+    };
+
+    public ViewHierarchyIndex(ViewGroup root) {
+        listenTo(root);
+        for (int i = 0; i < root.getChildCount(); i++) {
+            add(root.getChildAt(i));
+        }
+    }
+
+    /**
+     * @param listener notified of views of the given class added to or removed from the hierarchy from now on
+     */
+    public void addListener(Class<?> clazz, Listener listener) {
+        getViewsByClass(clazz);
+        listenerClasses.add(clazz);
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        int index = listeners.indexOf(listener);
+        if (index >= 0) {
+            listeners.remove(index);
+            listenerClasses.remove(index);
+        }
+    }
+
+    /**
+     * Sets a listener on a ViewGroup of the hierarchy without replacing the one the index relies on
+     */
+    public void setOnHierarchyChangeListener(ViewGroup viewGroup, @Nullable ViewGroup.OnHierarchyChangeListener listener) {
+        if (listener == null) {
+            chainedListeners.remove(viewGroup);
+        } else {
+            chainedListeners.put(viewGroup, listener);
+        }
+        if (!listenedViewGroups.contains(viewGroup)) {
+            viewGroup.setOnHierarchyChangeListener(listener);
+        }
+    }
+
+    /**
+     * The views of a class are collected on the first lookup, and kept up to date from then on
+     * @return the earliest added view which is an instance of the given class
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T extends View> T findViewByClass(Class<T> clazz) {
+        Set<View> result = getViewsByClass(clazz);
+        return result.isEmpty() ? null : (T) result.iterator().next();
+    }
+
+    @Nullable
+    public View findViewWithTag(Object tag) {
+        return viewsByTag.get(tag);
+    }
+
+    public void destroy() {
+        for (ViewGroup viewGroup : listenedViewGroups) {
+            viewGroup.setOnHierarchyChangeListener(chainedListeners.get(viewGroup));
+        }
+        listenedViewGroups.clear();
+        chainedListeners.clear();
+        views.clear();
+        viewsByClass.clear();
+        viewsByTag.clear();
+        listeners.clear();
+        listenerClasses.clear();
+    }
+
+    private Set<View> getViewsByClass(Class<?> clazz) {
+        Set<View> result = viewsByClass.get(clazz);
+        if (result == null) {
+            result = new LinkedHashSet<>();
+            for (View view : views) {
+                if (clazz.isInstance(view)) {
+                    result.add(view);
+                }
+            }
+            viewsByClass.put(clazz, result);
+        }
+        return result;
+    }
+
+    private void add(View view) {
+        if (!views.add(view)) {
+            return;
+        }
+        for (Map.Entry<Class<?>, Set<View>> entry : viewsByClass.entrySet()) {
+            if (entry.getKey().isInstance(view)) {
+                entry.getValue().add(view);
+            }
+        }
+        if (view.getTag() != null) {
+            viewsByTag.put(view.getTag(), view);
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            listenTo(viewGroup);
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                add(viewGroup.getChildAt(i));
+            }
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            if (listenerClasses.get(i).isInstance(view)) {
+                listeners.get(i).onViewAdded(view);
+            }
+        }
+    }
+
+    private void remove(View view) {
+        if (!views.remove(view)) {
+            return;
+        }
+        for (Set<View> viewsOfClass : viewsByClass.values()) {
+            viewsOfClass.remove(view);
+        }
+        if (view.getTag() != null && viewsByTag.get(view.getTag()) == view) {
+            viewsByTag.remove(view.getTag());
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup viewGroup = (ViewGroup) view;
+            if (listenedViewGroups.remove(viewGroup)) {
+                viewGroup.setOnHierarchyChangeListener(chainedListeners.get(viewGroup));
+            }
+            for (int i = 0; i < viewGroup.getChildCount(); i++) {
+                remove(viewGroup.getChildAt(i));
+            }
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            if (listenerClasses.get(i).isInstance(view)) {
+                listeners.get(i).onViewRemoved(view);
+            }
+        }
+    }
+
+    private void listenTo(ViewGroup viewGroup) {
+        if (listenedViewGroups.add(viewGroup)) {
+            viewGroup.setOnHierarchyChangeListener(hierarchyChangeListener);
+        }
+    }
+}
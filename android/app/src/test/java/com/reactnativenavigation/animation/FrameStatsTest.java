@@ -0,0 +1,55 @@
+package com.reactnativenavigation.animation;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class FrameStatsTest {
+    private static final long INTERVAL = 16666667;
+
+    @Test
+    public void framesAreCountedInVsyncIntervals() {
+        TransitionFrameMonitor.FrameStats uut = new TransitionFrameMonitor.FrameStats();
+        uut.addFrame(INTERVAL, INTERVAL);
+        uut.addFrame(INTERVAL / 2, INTERVAL);
+        uut.addFrame(3 * INTERVAL, INTERVAL);
+        uut.addFrame(10 * INTERVAL, INTERVAL);
+
+        assertThat(uut.frames).isEqualTo(4);
+        assertThat(uut.slowFrames).isEqualTo(2);
+        assertThat(uut.droppedFrames).isEqualTo(2 + 9);
+        assertThat(uut.histogram).containsExactly(2, 0, 1, 0, 1);
+    }
+
+    @Test
+    public void histogramBuckets() {
+        TransitionFrameMonitor.FrameStats uut = new TransitionFrameMonitor.FrameStats();
+        uut.addFrame(2 * INTERVAL, INTERVAL);
+        uut.addFrame(4 * INTERVAL, INTERVAL);
+        uut.addFrame(7 * INTERVAL, INTERVAL);
+        uut.addFrame(8 * INTERVAL, INTERVAL);
+
+        assertThat(uut.histogram).containsExactly(0, 1, 0, 2, 1);
+    }
+
+    @Test
+    public void addSumsStats() {
+        TransitionFrameMonitor.FrameStats first = new TransitionFrameMonitor.FrameStats();
+        first.transitions = 1;
+        first.addFrame(INTERVAL, INTERVAL);
+        TransitionFrameMonitor.FrameStats second = new TransitionFrameMonitor.FrameStats();
+        second.transitions = 1;
+        second.addFrame(2 * INTERVAL, INTERVAL);
+
+        first.add(second);
+
+        assertThat(first.transitions).isEqualTo(2);
+        assertThat(first.frames).isEqualTo(2);
+        assertThat(first.slowFrames).isEqualTo(1);
+        assertThat(first.droppedFrames).isEqualTo(1);
+        assertThat(first.histogram).containsExactly(1, 1, 0, 0, 0);
+    }
+}
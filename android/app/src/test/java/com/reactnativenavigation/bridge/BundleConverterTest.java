@@ -0,0 +1,69 @@
+package com.reactnativenavigation.bridge;
+
+import android.os.Bundle;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class BundleConverterTest {
+    @Test
+    public void integralNumbersAreConvertedToInts() {
+        Bundle result = BundleConverter.toBundle(JavaOnlyMap.of("int", 3, "integralDouble", 4.0, "double", 1.5));
+
+        assertThat(result.get("int")).isEqualTo(3);
+        assertThat(result.get("integralDouble")).isEqualTo(4);
+        assertThat(result.get("double")).isEqualTo(1.5);
+    }
+
+    @Test
+    public void numbersOutOfIntRangeAreConvertedToDoubles() {
+        Bundle result = BundleConverter.toBundle(JavaOnlyMap.of("large", 1e12));
+
+        assertThat(result.get("large")).isEqualTo(1e12);
+    }
+
+    @Test
+    public void nullValuesAreSkipped() {
+        Bundle result = BundleConverter.toBundle(JavaOnlyMap.of("null", null, "string", "value"));
+
+        assertThat(result.containsKey("null")).isFalse();
+        assertThat(result.getString("string")).isEqualTo("value");
+    }
+
+    @Test
+    public void arraysAreKeyedByIndex() {
+        JavaOnlyArray tabs = new JavaOnlyArray();
+        for (int i = 0; i < 40; i++) {
+            tabs.pushMap(JavaOnlyMap.of("screen", "screen" + i));
+        }
+
+        Bundle result = BundleConverter.toBundle(JavaOnlyMap.of("tabs", tabs)).getBundle("tabs");
+
+        assertThat(result.size()).isEqualTo(40);
+        for (int i = 0; i < 40; i++) {
+            assertThat(result.getBundle(BundleConverter.indexKey(i)).getString("screen")).isEqualTo("screen" + i);
+            assertThat(BundleConverter.indexKey(i)).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    public void nestedMapsAndArraysAreConverted() {
+        JavaOnlyMap payload = JavaOnlyMap.of(
+                "drawer", JavaOnlyMap.of("left", JavaOnlyMap.of("screen", "drawer")),
+                "topTabs", JavaOnlyArray.of(JavaOnlyMap.of("title", "a"), JavaOnlyMap.of("title", "b")),
+                "enabled", true);
+
+        Bundle result = BundleConverter.toBundle(payload);
+
+        assertThat(result.getBundle("drawer").getBundle("left").getString("screen")).isEqualTo("drawer");
+        assertThat(result.getBundle("topTabs").getBundle("1").getString("title")).isEqualTo("b");
+        assertThat(result.getBoolean("enabled")).isTrue();
+    }
+}
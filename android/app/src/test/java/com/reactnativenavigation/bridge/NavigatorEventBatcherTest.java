@@ -0,0 +1,128 @@
+package com.reactnativenavigation.bridge;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigatorEventBatcherTest {
+    private final List<String> sent = new ArrayList<>();
+    private NavigatorEventBatcher uut;
+
+    @Before
+    public void beforeEach() {
+        Robolectric.getForegroundThreadScheduler().pause();
+        uut = new NavigatorEventBatcher(null) {
+            @Override
+            void send(String eventName, Object data) {
+                sent.add(eventName + ":" + data);
+            }
+        };
+    }
+
+    @Test
+    public void eventsAreSentRightAwayWhenBatchingIsDisabled() {
+        uut.emit("navigator1", "willAppear", "a");
+        uut.emit("navigator1", "didAppear", "b");
+
+        assertThat(sent).containsExactly("navigator1:a", "navigator1:b");
+    }
+
+    @Test
+    public void coalescedEventIsReplacedInPlace() {
+        uut.emit("navigator1", "searchQueryChange", "a");
+        uut.emit("navigator2", "searchQueryChange", "b");
+        uut.emit("navigator1", "searchQueryChange", "c");
+        assertThat(sent).isEmpty();
+
+        uut.doFrame(0);
+
+        assertThat(sent).containsExactly("navigator1:c", "navigator2:b");
+    }
+
+    @Test
+    public void queuedEventsAreSentBeforeAnImmediateEvent() {
+        uut.emit("navigator1", "searchQueryChange", "a");
+        uut.emit("navigator1", "didAppear", "b");
+
+        assertThat(sent).containsExactly("navigator1:a", "navigator1:b");
+    }
+
+    @Test
+    public void emitNowSendsQueuedEventsFirst() {
+        uut.emit("navigator1", "searchQueryChange", "a");
+        uut.emitNow("RNN.appLaunched", "b");
+
+        assertThat(sent).containsExactly("navigator1:a", "RNN.appLaunched:b");
+    }
+
+    @Test
+    public void eventsAreNotCoalescedOnceDisabled() {
+        uut.setCoalesced("searchQueryChange", false);
+        uut.emit("navigator1", "searchQueryChange", "a");
+        uut.emit("navigator1", "searchQueryChange", "b");
+
+        assertThat(sent).containsExactly("navigator1:a", "navigator1:b");
+    }
+
+    @Test
+    public void throttledEventsAreSentAtMostOncePerInterval() {
+        Robolectric.getForegroundThreadScheduler().advanceBy(1000);
+        uut.setRateLimit("scroll", NavigatorEventBatcher.THROTTLE, 100);
+        uut.emit("navigator1", "scroll", "a");
+        uut.emit("navigator1", "scroll", "b");
+        uut.emit("navigator1", "scroll", "c");
+        assertThat(sent).containsExactly("navigator1:a");
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(100);
+
+        assertThat(sent).containsExactly("navigator1:a", "navigator1:c");
+    }
+
+    @Test
+    public void debouncedEventIsSentOnceEventsStop() {
+        uut.setRateLimit("scroll", NavigatorEventBatcher.DEBOUNCE, 100);
+        uut.emit("navigator1", "scroll", "a");
+        Robolectric.getForegroundThreadScheduler().advanceBy(50);
+        uut.emit("navigator1", "scroll", "b");
+        Robolectric.getForegroundThreadScheduler().advanceBy(50);
+        assertThat(sent).isEmpty();
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(50);
+
+        assertThat(sent).containsExactly("navigator1:b");
+    }
+
+    @Test
+    public void throttleIsReleasedOnceNavigatorStopsSending() {
+        uut.setRateLimit("scroll", NavigatorEventBatcher.THROTTLE, 100);
+        uut.emit("navigator1", "scroll", "a");
+        uut.emit("navigator2", "scroll", "b");
+        assertThat(uut.getLimiterCount()).isEqualTo(2);
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(100);
+
+        assertThat(uut.getLimiterCount()).isZero();
+        uut.emit("navigator1", "scroll", "c");
+        assertThat(sent).containsExactly("navigator1:a", "navigator2:b", "navigator1:c");
+    }
+
+    @Test
+    public void debounceIsReleasedOnceEventIsSent() {
+        uut.setRateLimit("scroll", NavigatorEventBatcher.DEBOUNCE, 100);
+        uut.emit("navigator1", "scroll", "a");
+        assertThat(uut.getLimiterCount()).isEqualTo(1);
+
+        Robolectric.getForegroundThreadScheduler().advanceBy(100);
+
+        assertThat(sent).containsExactly("navigator1:a");
+        assertThat(uut.getLimiterCount()).isZero();
+    }
+}
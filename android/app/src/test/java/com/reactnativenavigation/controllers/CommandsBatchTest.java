@@ -0,0 +1,72 @@
+package com.reactnativenavigation.controllers;
+
+import android.os.Bundle;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class CommandsBatchTest {
+    @Test
+    public void coalescedCommandKeepsPositionOfFirstOccurrence() {
+        List<Bundle> result = CommandsBatch.coalesce(Arrays.asList(
+                setTitle("screen1", "first"),
+                command("setTopBarVisible", "screen1"),
+                setTitle("screen1", "second")));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getString("type")).isEqualTo("setTitle");
+        assertThat(result.get(0).getString("title")).isEqualTo("second");
+        assertThat(result.get(1).getString("type")).isEqualTo("setTopBarVisible");
+    }
+
+    @Test
+    public void commandsOfDifferentScreensAreNotCoalesced() {
+        List<Bundle> result = CommandsBatch.coalesce(Arrays.asList(
+                setTitle("screen1", "first"),
+                setTitle("screen2", "second")));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getString("title")).isEqualTo("first");
+        assertThat(result.get(1).getString("title")).isEqualTo("second");
+    }
+
+    @Test
+    public void setStyleMergesStyleKeys() {
+        Bundle first = command("setStyle", "screen1");
+        Bundle firstStyle = new Bundle();
+        firstStyle.putString("navBarBackgroundColor", "red");
+        firstStyle.putString("navBarTextColor", "white");
+        first.putBundle("style", firstStyle);
+        Bundle second = command("setStyle", "screen1");
+        Bundle secondStyle = new Bundle();
+        secondStyle.putString("navBarTextColor", "black");
+        second.putBundle("style", secondStyle);
+
+        List<Bundle> result = CommandsBatch.coalesce(Arrays.asList(first, second));
+
+        assertThat(result).hasSize(1);
+        Bundle style = result.get(0).getBundle("style");
+        assertThat(style.getString("navBarBackgroundColor")).isEqualTo("red");
+        assertThat(style.getString("navBarTextColor")).isEqualTo("black");
+    }
+
+    private static Bundle setTitle(String screenInstanceId, String title) {
+        Bundle result = command("setTitle", screenInstanceId);
+        result.putString("title", title);
+        return result;
+    }
+
+    private static Bundle command(String type, String screenInstanceId) {
+        Bundle result = new Bundle();
+        result.putString("type", type);
+        result.putString("screenInstanceId", screenInstanceId);
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package com.reactnativenavigation.controllers;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.reactnativenavigation.utils.TypefaceLoader;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_BACKGROUND;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_COMPLETE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN;
+import static com.reactnativenavigation.controllers.MemoryGovernor.TIER_CACHES;
+import static com.reactnativenavigation.controllers.MemoryGovernor.TIER_HIBERNATION;
+import static com.reactnativenavigation.controllers.MemoryGovernor.TIER_NONE;
+import static com.reactnativenavigation.controllers.MemoryGovernor.TIER_OFFSCREEN;
+import static com.reactnativenavigation.controllers.MemoryGovernor.TIER_POOLED_SCREENS;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class MemoryGovernorTest {
+    @Test
+    public void runningLevelsAreGraded() {
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_RUNNING_MODERATE)).isEqualTo(TIER_NONE);
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_RUNNING_LOW)).isEqualTo(TIER_CACHES);
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_RUNNING_CRITICAL)).isEqualTo(TIER_OFFSCREEN);
+    }
+
+    @Test
+    public void onlyCachesAreReleasedWhenUiIsHidden() {
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_UI_HIDDEN)).isEqualTo(TIER_CACHES);
+    }
+
+    @Test
+    public void backgroundLevelsAreGraded() {
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_BACKGROUND)).isEqualTo(TIER_POOLED_SCREENS);
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_MODERATE)).isEqualTo(TIER_OFFSCREEN);
+        assertThat(MemoryGovernor.getTier(TRIM_MEMORY_COMPLETE)).isEqualTo(TIER_HIBERNATION);
+    }
+
+    @Test
+    public void cachesTierReleasesTypefacesAndReportsOnlyCaches() {
+        new TypefaceLoader(null).getTypeFace();
+        JavaOnlyMap data = new JavaOnlyMap();
+
+        MemoryGovernor.instance.trim(TRIM_MEMORY_RUNNING_LOW, TIER_CACHES, data);
+
+        assertThat(data.getInt("level")).isEqualTo(TRIM_MEMORY_RUNNING_LOW);
+        assertThat(data.getInt("tier")).isEqualTo(TIER_CACHES);
+        assertThat(data.getInt("typefaces")).isEqualTo(1);
+        assertThat(data.hasKey("cacheBytes")).isTrue();
+        assertThat(data.hasKey("pooledScreens")).isFalse();
+        assertThat(data.hasKey("offscreenViews")).isFalse();
+        assertThat(data.hasKey("hibernatedScreens")).isFalse();
+        assertThat(TypefaceLoader.clearCache()).isZero();
+    }
+
+    @Test
+    public void everyTierIsReportedAtTheHighestTier() {
+        JavaOnlyMap data = new JavaOnlyMap();
+
+        MemoryGovernor.instance.trim(TRIM_MEMORY_COMPLETE, TIER_HIBERNATION, data);
+
+        assertThat(data.hasKey("cacheBytes")).isTrue();
+        assertThat(data.hasKey("typefaces")).isTrue();
+        assertThat(data.getInt("pooledScreens")).isZero();
+        assertThat(data.getInt("offscreenViews")).isZero();
+        assertThat(data.getInt("hibernatedScreens")).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package com.reactnativenavigation.controllers;
+
+import android.graphics.Color;
+import android.os.Bundle;
+
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.AppStyle;
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.ScreenParams;
+import com.reactnativenavigation.params.parsers.ScreenParamsParser;
+import com.reactnativenavigation.utils.BundleFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+/**
+ * Serializes, writes and reads the snapshot of a deep multi stack state: five tabs with ten screens each and two
+ * modals with five screens each. Each step must average below BUDGET_MS, which is loose enough for slow CI machines
+ * but catches serialization growing worse than linearly with the number of screens.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class NavigationStateSnapshotBenchmarkTest {
+    private static final int TABS = 5;
+    private static final int TAB_DEPTH = 10;
+    private static final int MODALS = 2;
+    private static final int MODAL_DEPTH = 5;
+    private static final int WARM_UP = 5;
+    private static final int ITERATIONS = 20;
+    private static final long BUDGET_MS = 50;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private BundleFile file;
+    private ActivityParams activityParams;
+    private final Map<String, List<ScreenParams>> stacks = new LinkedHashMap<>();
+    private final List<String> modals = new ArrayList<>();
+
+    @Before
+    public void beforeEach() {
+        file = new BundleFile(new File(folder.getRoot(), "snapshot"), 1, 1);
+        activityParams = new ActivityParams();
+        activityParams.params = ParamsSource.of(createStartAppParams());
+        AppStyle.setAppStyle(activityParams.params);
+        for (int i = 0; i < TABS; i++) {
+            stacks.put("tab" + i, createStack("tab" + i, TAB_DEPTH));
+        }
+        for (int i = 0; i < MODALS; i++) {
+            stacks.put("modal" + i, createStack("modal" + i, MODAL_DEPTH));
+            modals.add("modal" + i);
+        }
+    }
+
+    @Test
+    public void snapshotIsReadBackWithAllStacks() {
+        file.write(marshall());
+
+        Bundle snapshot = file.read();
+
+        assertThat(snapshot).isNotNull();
+        assertThat(NavigationStateSnapshot.getActivityParams(snapshot).getBundle("tabs").size()).isEqualTo(TABS);
+        Bundle savedStacks = snapshot.getBundle("stacks");
+        assertThat(savedStacks.keySet()).hasSize(TABS + MODALS);
+        assertThat(savedStacks.getBundle("tab4").size()).isEqualTo(TAB_DEPTH);
+        assertThat(savedStacks.getBundle("tab4").getBundle("9").getString("title")).isEqualTo("tab4 screen 9");
+        assertThat(savedStacks.getBundle("modal1").size()).isEqualTo(MODAL_DEPTH);
+        assertThat(snapshot.getStringArrayList("modals")).containsExactly("modal0", "modal1");
+        assertThat(snapshot.getInt("selectedTabIndex")).isEqualTo(2);
+    }
+
+    @Test
+    public void serializeWriteAndReadStayWithinBudget() {
+        for (int i = 0; i < WARM_UP; i++) {
+            file.write(marshall());
+            file.read();
+        }
+
+        long serializeNanos = 0;
+        long writeNanos = 0;
+        long readNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            byte[] data = marshall();
+            serializeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            file.write(data);
+            writeNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            assertThat(file.read()).isNotNull();
+            readNanos += System.nanoTime() - start;
+        }
+
+        assertThat(averageMillis(serializeNanos)).as("serialize ms").isLessThan(BUDGET_MS);
+        assertThat(averageMillis(writeNanos)).as("write ms").isLessThan(BUDGET_MS);
+        assertThat(averageMillis(readNanos)).as("read ms").isLessThan(BUDGET_MS);
+    }
+
+    private byte[] marshall() {
+        return NavigationStateSnapshot.marshall(file, activityParams, 2, stacks, modals);
+    }
+
+    private static long averageMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos / ITERATIONS);
+    }
+
+    private static Bundle createStartAppParams() {
+        Bundle tabs = new Bundle();
+        for (int i = 0; i < TABS; i++) {
+            tabs.putBundle(String.valueOf(i), createScreen("tab" + i, 0));
+        }
+        Bundle result = new Bundle();
+        result.putBundle("tabs", tabs);
+        result.putBundle("appStyle", createStyle());
+        return result;
+    }
+
+    private static List<ScreenParams> createStack(String navigatorId, int depth) {
+        List<ScreenParams> result = new ArrayList<>();
+        for (int i = 0; i < depth; i++) {
+            result.add(ScreenParamsParser.parse(ParamsSource.of(createScreen(navigatorId, i))));
+        }
+        return result;
+    }
+
+    private static Bundle createScreen(String navigatorId, int index) {
+        Bundle navigationParams = new Bundle();
+        navigationParams.putString("screenInstanceID", navigatorId + "_screen" + index);
+        navigationParams.putString("navigatorID", navigatorId);
+        navigationParams.putString("navigatorEventID", navigatorId + "_screen" + index + "_events");
+
+        Bundle rightButtons = new Bundle();
+        for (String id : Arrays.asList("edit", "share")) {
+            Bundle button = new Bundle();
+            button.putString("title", id);
+            button.putString("id", id);
+            rightButtons.putBundle(String.valueOf(rightButtons.size()), button);
+        }
+
+        Bundle result = new Bundle();
+        result.putString("screenId", "example.Screen" + index);
+        result.putString("title", navigatorId + " screen " + index);
+        result.putString("subtitle", "subtitle");
+        result.putDouble("timestamp", 1.5e12 + index);
+        result.putBundle("navigationParams", navigationParams);
+        result.putBundle("styleParams", createStyle());
+        result.putBundle("rightButtons", rightButtons);
+        return result;
+    }
+
+    private static Bundle createStyle() {
+        Bundle result = new Bundle();
+        result.putInt("topBarColor", Color.BLUE);
+        result.putInt("statusBarColor", Color.DKGRAY);
+        result.putInt("titleBarTitleColor", Color.WHITE);
+        result.putInt("screenBackgroundColor", Color.LTGRAY);
+        result.putInt("titleBarTitleFontSize", 18);
+        result.putBoolean("drawBelowTopBar", true);
+        result.putBoolean("topTabsScrollable", true);
+        result.putString("orientation", "portrait");
+        return result;
+    }
+}
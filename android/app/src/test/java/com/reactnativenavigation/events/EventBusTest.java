@@ -0,0 +1,73 @@
+package com.reactnativenavigation.events;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class EventBusTest {
+    private final RecordingSubscriber typed = new RecordingSubscriber();
+    private final RecordingSubscriber all = new RecordingSubscriber();
+
+    @After
+    public void tearDown() {
+        EventBus.instance.unregister(typed);
+        EventBus.instance.unregister(all);
+    }
+
+    @Test
+    public void postReachesOnlySubscribersOfTheEventType() {
+        EventBus.instance.register(typed, ModalDismissedEvent.TYPE);
+
+        EventBus.instance.post(new ContextualMenuHiddenEvent());
+        EventBus.instance.post(new ModalDismissedEvent());
+
+        assertThat(typed.types).containsExactly(ModalDismissedEvent.TYPE);
+    }
+
+    @Test
+    public void subscriberWithoutTypesReceivesAllEvents() {
+        EventBus.instance.register(all);
+
+        EventBus.instance.post(new ContextualMenuHiddenEvent());
+        EventBus.instance.post(new ModalDismissedEvent());
+
+        assertThat(all.types).containsExactly(ContextualMenuHiddenEvent.TYPE, ModalDismissedEvent.TYPE);
+    }
+
+    @Test
+    public void unregisteredSubscriberReceivesNothing() {
+        EventBus.instance.register(typed, ModalDismissedEvent.TYPE);
+        EventBus.instance.unregister(typed);
+
+        EventBus.instance.post(new ModalDismissedEvent());
+
+        assertThat(typed.types).isEmpty();
+        assertThat(EventBus.instance.isSubscribed(typed)).isFalse();
+    }
+
+    @Test
+    public void registeringTwiceDeliversOnce() {
+        EventBus.instance.register(typed, ModalDismissedEvent.TYPE);
+        EventBus.instance.register(typed, ModalDismissedEvent.TYPE);
+
+        EventBus.instance.post(new ModalDismissedEvent());
+
+        assertThat(typed.types).hasSize(1);
+    }
+
+    private static class RecordingSubscriber implements Subscriber {
+        final List<String> types = new ArrayList<>();
+
+        @Override
+        public void onEvent(Event event) {
+            types.add(event.getType());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.reactnativenavigation.params.parsers;
+
+import android.graphics.Color;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.reactnativenavigation.bridge.BundleConverter;
+import com.reactnativenavigation.params.ActivityParams;
+import com.reactnativenavigation.params.PageParams;
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.ScreenParams;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Parses a startApp payload with bottom tabs, side menus and top tabs straight from the bridge maps, and after
+ * converting it to a Bundle like commands used to be. Both paths must produce the same params, and reading the
+ * maps directly must allocate less than converting them first.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ActivityParamsParserBenchmarkTest {
+    private static final int TABS = 5;
+    private static final int TOP_TABS = 4;
+    private static final int WARM_UP = 20;
+    private static final int ITERATIONS = 100;
+
+    private JavaOnlyMap payload;
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @Before
+    public void beforeEach() {
+        payload = createStartAppPayload();
+    }
+
+    @Test
+    public void directParsingMatchesBundleParsing() {
+        ActivityParams direct = parseDirectly();
+        ActivityParams converted = parseConverted();
+
+        assertThat(direct.type).isEqualTo(ActivityParams.Type.TabBased);
+        assertThat(direct.tabParams).hasSize(TABS);
+        for (int i = 0; i < TABS; i++) {
+            assertSameScreen(direct.tabParams.get(i), converted.tabParams.get(i));
+        }
+        assertThat(direct.leftSideMenuParams.screenId).isEqualTo(converted.leftSideMenuParams.screenId);
+        assertThat(direct.leftSideMenuParams.navigationParams.navigatorId)
+                .isEqualTo(converted.leftSideMenuParams.navigationParams.navigatorId);
+        assertThat(direct.rightSideMenuParams).isNull();
+        assertThat(converted.rightSideMenuParams).isNull();
+        assertThat(direct.lazyLoadTabs).isEqualTo(converted.lazyLoadTabs).isTrue();
+    }
+
+    @Test
+    public void directParsingAllocatesLessThanConvertingToBundle() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            parseDirectly();
+            parseConverted();
+        }
+        long directBytes = measure(true);
+        long convertedBytes = measure(false);
+
+        assertThat(directBytes).isLessThan(convertedBytes);
+    }
+
+    private long measure(boolean direct) {
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (direct) {
+                parseDirectly();
+            } else {
+                parseConverted();
+            }
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private ActivityParams parseDirectly() {
+        return ActivityParamsParser.parse(ParamsSource.of(payload));
+    }
+
+    private ActivityParams parseConverted() {
+        return ActivityParamsParser.parse(ParamsSource.of(BundleConverter.toBundle(payload)));
+    }
+
+    private static void assertSameScreen(ScreenParams direct, ScreenParams converted) {
+        assertThat(direct.screenId).isEqualTo(converted.screenId);
+        assertThat(direct.title).isEqualTo(converted.title);
+        assertThat(direct.tabLabel).isEqualTo(converted.tabLabel);
+        assertThat(direct.timestamp).isEqualTo(converted.timestamp);
+        assertThat(direct.getNavigatorId()).isEqualTo(converted.getNavigatorId());
+        assertThat(direct.getScreenInstanceId()).isEqualTo(converted.getScreenInstanceId());
+        assertThat(direct.rightButtons).hasSize(converted.rightButtons.size());
+        assertThat(direct.rightButtons.get(1).eventId).isEqualTo(converted.rightButtons.get(1).eventId);
+        assertThat(direct.styleParams.topBarColor.getColor()).isEqualTo(converted.styleParams.topBarColor.getColor());
+        assertThat(direct.styleParams.titleBarTitleFontSize).isEqualTo(converted.styleParams.titleBarTitleFontSize);
+        assertThat(direct.styleParams.drawScreenBelowTopBar).isEqualTo(converted.styleParams.drawScreenBelowTopBar);
+        assertThat(direct.hasTopTabs()).isEqualTo(converted.hasTopTabs());
+        if (direct.hasTopTabs()) {
+            assertThat(direct.topTabParams).hasSize(TOP_TABS);
+            for (int i = 0; i < TOP_TABS; i++) {
+                PageParams page = direct.topTabParams.get(i);
+                assertThat(page.title).isEqualTo(converted.topTabParams.get(i).title);
+                assertThat(page.navigationParams.screenInstanceId)
+                        .isEqualTo(converted.topTabParams.get(i).navigationParams.screenInstanceId);
+            }
+        }
+    }
+
+    private static JavaOnlyMap createStartAppPayload() {
+        JavaOnlyArray tabs = new JavaOnlyArray();
+        for (int i = 0; i < TABS; i++) {
+            JavaOnlyMap tab = createScreen("tab" + i, "navigator" + i);
+            tab.putString("label", "Tab " + i);
+            if (i % 2 == 0) {
+                tab.putArray("topTabs", createTopTabs("navigator" + i));
+            }
+            tabs.pushMap(tab);
+        }
+        JavaOnlyMap result = new JavaOnlyMap();
+        result.putArray("tabs", tabs);
+        result.putMap("sideMenu", JavaOnlyMap.of(
+                "left", JavaOnlyMap.of(
+                        "screenId", "drawer",
+                        "navigationParams", createNavigationParams("drawerInstance", "drawerNavigator"),
+                        "disableOpenGesture", false)));
+        result.putMap("appStyle", createStyle());
+        result.putBoolean("animateShow", true);
+        result.putBoolean("lazyLoadTabs", true);
+        return result;
+    }
+
+    private static JavaOnlyMap createScreen(String screenId, String navigatorId) {
+        JavaOnlyMap result = new JavaOnlyMap();
+        result.putString("screenId", screenId);
+        result.putString("title", "Title of " + screenId);
+        result.putDouble("timestamp", 1.5e12);
+        result.putMap("navigationParams", createNavigationParams(screenId + "Instance", navigatorId));
+        result.putMap("styleParams", createStyle());
+        result.putArray("rightButtons", JavaOnlyArray.of(
+                JavaOnlyMap.of("title", "Edit", "id", "edit", "showAsAction", "ifRoom"),
+                JavaOnlyMap.of("title", "Share", "id", "share", "enabled", false)));
+        result.putString("animationType", "slide-horizontal");
+        return result;
+    }
+
+    private static JavaOnlyArray createTopTabs(String navigatorId) {
+        JavaOnlyArray result = new JavaOnlyArray();
+        for (int i = 0; i < TOP_TABS; i++) {
+            JavaOnlyMap page = new JavaOnlyMap();
+            page.putString("screenId", "page" + i);
+            page.putString("title", "Page " + i);
+            page.putMap("navigationParams", createNavigationParams(navigatorId + "Page" + i, navigatorId));
+            page.putMap("styleParams", createStyle());
+            result.pushMap(page);
+        }
+        return result;
+    }
+
+    private static JavaOnlyMap createNavigationParams(String screenInstanceId, String navigatorId) {
+        return JavaOnlyMap.of(
+                "screenInstanceID", screenInstanceId,
+                "navigatorID", navigatorId,
+                "navigatorEventID", screenInstanceId + "_events");
+    }
+
+    private static JavaOnlyMap createStyle() {
+        JavaOnlyMap result = new JavaOnlyMap();
+        result.putInt("topBarColor", Color.BLUE);
+        result.putInt("statusBarColor", Color.DKGRAY);
+        result.putInt("titleBarTitleColor", Color.WHITE);
+        result.putInt("titleBarButtonColor", Color.WHITE);
+        result.putInt("screenBackgroundColor", Color.LTGRAY);
+        result.putInt("selectedTopTabIndicatorColor", Color.YELLOW);
+        result.putInt("titleBarTitleFontSize", 18);
+        result.putBoolean("drawBelowTopBar", true);
+        result.putBoolean("topTabsScrollable", true);
+        result.putBoolean("topBarElevationShadowEnabled", false);
+        result.putString("orientation", "portrait");
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reactnativenavigation.params.parsers;
+
+import android.os.Bundle;
+
+import com.reactnativenavigation.params.ParamsSource;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class ParserTest {
+    private final Parser.ParseStrategy<String> screenOf = new Parser.ParseStrategy<String>() {
+        @Override
+        public String parse(ParamsSource params) {
+            return params.getString("screen");
+        }
+    };
+
+    @Test
+    public void parseBundleReadsItemsInIndexOrder() {
+        Bundle tabs = createTabs(12);
+
+        List<String> result = new Parser().parseBundle(ParamsSource.of(tabs), screenOf);
+
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0)).isEqualTo("screen0");
+        assertThat(result.get(11)).isEqualTo("screen11");
+    }
+
+    @Test
+    public void parseBundleMatchesKeyParsing() {
+        Bundle tabs = createTabs(40);
+
+        assertThat(new Parser().parseBundle(ParamsSource.of(tabs), screenOf)).isEqualTo(parseByKeys(tabs));
+    }
+
+    @Test
+    public void hasKey() {
+        Bundle bundle = new Bundle();
+        bundle.putString("key", null);
+
+        assertThat(Parser.hasKey(ParamsSource.of(bundle), "key")).isTrue();
+        assertThat(Parser.hasKey(ParamsSource.of(bundle), "other")).isFalse();
+    }
+
+    /**
+     * Items are put in reverse order, so the bundle's key order doesn't match the indices
+     */
+    private static Bundle createTabs(int count) {
+        Bundle result = new Bundle();
+        for (int i = count - 1; i >= 0; i--) {
+            Bundle tab = new Bundle();
+            tab.putString("screen", "screen" + i);
+            result.putBundle(String.valueOf(i), tab);
+        }
+        return result;
+    }
+
+    private List<String> parseByKeys(Bundle params) {
+        List<String> result = new ArrayList<>(Collections.nCopies(params.keySet().size(), (String) null));
+        for (String key : params.keySet()) {
+            result.set(Integer.parseInt(key), screenOf.parse(ParamsSource.of(params.getBundle(key))));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.reactnativenavigation.params.parsers;
+
+import android.graphics.Color;
+import android.os.Bundle;
+
+import com.reactnativenavigation.params.ParamsSource;
+import com.reactnativenavigation.params.StyleParams;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class StyleParamsParserTest {
+    @Test
+    public void changedKeysContainsOnlyKeysWithDifferentValues() {
+        Bundle params = new Bundle();
+        params.putInt("statusBarColor", Color.RED);
+        params.putString("titleBarTitleFontFamily", "font");
+        Bundle update = new Bundle();
+        update.putInt("statusBarColor", Color.RED);
+        update.putString("titleBarTitleFontFamily", "other");
+        update.putBoolean("topBarTransparent", true);
+
+        assertThat(StyleParamsParser.getChangedKeys(params, update)).containsOnly("titleBarTitleFontFamily", "topBarTransparent");
+    }
+
+    @Test
+    public void nestedBundlesAreComparedByValue() {
+        Bundle params = new Bundle();
+        params.putBundle("topBarReactViewInitialProps", props("value"));
+        Bundle update = new Bundle();
+        update.putBundle("topBarReactViewInitialProps", props("value"));
+
+        assertThat(StyleParamsParser.getChangedKeys(params, update)).isEmpty();
+
+        update.putBundle("topBarReactViewInitialProps", props("other"));
+        assertThat(StyleParamsParser.getChangedKeys(params, update)).containsOnly("topBarReactViewInitialProps");
+    }
+
+    @Test
+    public void parseScreenStyleUpdatesOnlyScreenLevelFields() {
+        Bundle params = new Bundle();
+        StyleParams result = new StyleParams(ParamsSource.of(params));
+        StyleParams.Color topBarColor = new StyleParams.Color(Color.BLUE);
+        result.topBarColor = topBarColor;
+        Bundle update = new Bundle();
+        update.putInt("statusBarColor", Color.RED);
+        update.putInt("screenBackgroundColor", Color.GREEN);
+
+        new StyleParamsParser(params).merge(update).parseScreenStyle(result);
+
+        assertThat(result.statusBarColor.getColor()).isEqualTo(Color.RED);
+        assertThat(result.screenBackgroundColor.getColor()).isEqualTo(Color.GREEN);
+        assertThat(result.navigationBarColor.hasColor()).isFalse();
+        assertThat(result.topBarColor).isSameAs(topBarColor);
+        assertThat(result.params.getInt("statusBarColor")).isEqualTo(Color.RED);
+    }
+
+    private static Bundle props(String value) {
+        Bundle result = new Bundle();
+        result.putString("key", value);
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package com.reactnativenavigation.screens;
+
+import android.widget.RelativeLayout;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class ScreenRegistryTest {
+    @Test
+    public void stacksAreRegisteredByNavigatorId() {
+        ScreenStack stack = createStack("navigator1");
+
+        assertThat(ScreenRegistry.instance.getStack("navigator1")).isSameAs(stack);
+
+        stack.destroy();
+
+        assertThat(ScreenRegistry.instance.getStack("navigator1")).isNull();
+    }
+
+    @Test
+    public void destroyedStackDoesNotUnregisterItsReplacement() {
+        ScreenStack replaced = createStack("navigator1");
+        ScreenStack replacement = createStack("navigator1");
+
+        replaced.destroy();
+
+        assertThat(ScreenRegistry.instance.getStack("navigator1")).isSameAs(replacement);
+        replacement.destroy();
+    }
+
+    @Test
+    public void unknownScreensHaveNoStack() {
+        assertThat(ScreenRegistry.instance.getScreen("unknown")).isNull();
+        assertThat(ScreenRegistry.instance.getStackOfScreen("unknown")).isNull();
+    }
+
+    private static ScreenStack createStack(String navigatorId) {
+        return new ScreenStack(null, new RelativeLayout(RuntimeEnvironment.application), navigatorId, null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reactnativenavigation.screens;
+
+import android.os.SystemClock;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class TeardownSchedulerTest {
+    private final List<Integer> done = new ArrayList<>();
+
+    @After
+    public void afterEach() {
+        TeardownScheduler.instance.flush();
+    }
+
+    @Test
+    public void idlePassStopsOnceItsBudgetIsSpent() {
+        for (int i = 0; i < 3; i++) {
+            enqueue(i, 3);
+        }
+
+        TeardownScheduler.instance.queueIdle();
+        assertThat(done).containsExactly(0, 1);
+
+        TeardownScheduler.instance.queueIdle();
+        assertThat(done).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void fastWorkRunsInOnePass() {
+        for (int i = 0; i < 10; i++) {
+            enqueue(i, 0);
+        }
+
+        TeardownScheduler.instance.queueIdle();
+
+        assertThat(done).hasSize(10);
+    }
+
+    @Test
+    public void flushRunsEverythingRightAway() {
+        for (int i = 0; i < 3; i++) {
+            enqueue(i, 3);
+        }
+
+        TeardownScheduler.instance.flush();
+
+        assertThat(done).containsExactly(0, 1, 2);
+        assertThat(TeardownScheduler.instance.getBacklog()).isEqualTo(0);
+    }
+
+    private void enqueue(final int id, final long durationMs) {
+        TeardownScheduler.instance.destroy(Collections.<Screen>emptyList(), new Runnable() {
+            @Override
+            public void run() {
+                SystemClock.sleep(durationMs);
+                done.add(id);
+            }
+        });
+    }
+}
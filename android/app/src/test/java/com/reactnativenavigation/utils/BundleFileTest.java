@@ -0,0 +1,101 @@
+package com.reactnativenavigation.utils;
+
+import android.os.Build;
+import android.os.Bundle;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.util.ReflectionHelpers;
+
+import java.io.File;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class BundleFileTest {
+    private static final int VERSION = 1;
+    private static final int APP_VERSION_CODE = 10;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private File file;
+
+    @Before
+    public void beforeEach() {
+        file = new File(folder.getRoot(), "bundle");
+    }
+
+    @Test
+    public void writtenBundleIsRead() {
+        BundleFile uut = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        uut.write(uut.marshall(createBundle("value")));
+
+        assertThat(uut.read().getString("key")).isEqualTo("value");
+    }
+
+    @Test
+    public void missingFileIsReadAsNull() {
+        assertThat(new BundleFile(file, VERSION, APP_VERSION_CODE).read()).isNull();
+    }
+
+    @Test
+    public void writeReplacesThePreviousFile() {
+        BundleFile uut = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        uut.write(uut.marshall(createBundle("first")));
+        uut.write(uut.marshall(createBundle("second")));
+
+        assertThat(uut.read().getString("key")).isEqualTo("second");
+        assertThat(new File(folder.getRoot(), "bundle.bak").exists()).isFalse();
+    }
+
+    @Test
+    public void fileOfAnotherFormatVersionIsIgnored() {
+        BundleFile previous = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        previous.write(previous.marshall(createBundle("value")));
+
+        assertThat(new BundleFile(file, VERSION + 1, APP_VERSION_CODE).read()).isNull();
+    }
+
+    @Test
+    public void fileOfAnotherAppVersionIsIgnored() {
+        BundleFile previous = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        previous.write(previous.marshall(createBundle("value")));
+
+        assertThat(new BundleFile(file, VERSION, APP_VERSION_CODE + 1).read()).isNull();
+    }
+
+    @Test
+    public void fileOfAnotherPlatformBuildIsIgnored() {
+        BundleFile uut = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        uut.write(uut.marshall(createBundle("value")));
+
+        String fingerprint = Build.FINGERPRINT;
+        ReflectionHelpers.setStaticField(Build.class, "FINGERPRINT", "vendor/device/other:7.0/build");
+        try {
+            assertThat(uut.read()).isNull();
+        } finally {
+            ReflectionHelpers.setStaticField(Build.class, "FINGERPRINT", fingerprint);
+        }
+    }
+
+    @Test
+    public void deleteRemovesTheFile() {
+        BundleFile uut = new BundleFile(file, VERSION, APP_VERSION_CODE);
+        uut.write(uut.marshall(createBundle("value")));
+
+        uut.delete();
+
+        assertThat(uut.read()).isNull();
+        assertThat(file.exists()).isFalse();
+    }
+
+    private static Bundle createBundle(String value) {
+        Bundle result = new Bundle();
+        result.putString("key", value);
+        return result;
+    }
+}
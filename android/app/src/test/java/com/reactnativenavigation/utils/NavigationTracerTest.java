@@ -0,0 +1,39 @@
+package com.reactnativenavigation.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class NavigationTracerTest {
+    @After
+    public void afterEach() {
+        NavigationTracer.instance.setEnabled(false);
+        NavigationTracer.instance.clear();
+    }
+
+    @Test
+    public void disabledTracerRecordsNothing() {
+        NavigationTracer.instance.instant("firstDraw", "screen1");
+        NavigationTracer.Span span = NavigationTracer.instance.beginAsync("push").setScreenInstanceId("screen1");
+        span.end();
+
+        assertThat(NavigationTracer.instance.beginAsync("pop")).isSameAs(span);
+        assertThat(NavigationTracer.instance.dump()).isEqualTo("{\"traceEvents\":[]}");
+    }
+
+    @Test
+    public void enabledTracerRecordsEvents() {
+        NavigationTracer.instance.setEnabled(true);
+        NavigationTracer.instance.instant("firstDraw", "screen1");
+        NavigationTracer.instance.beginAsync("push").setScreenInstanceId("screen1").end();
+
+        String dump = NavigationTracer.instance.dump();
+        assertThat(dump).contains("\"name\":\"firstDraw\"");
+        assertThat(dump).contains("\"name\":\"push\"");
+        assertThat(dump).contains("\"screenInstanceId\":\"screen1\"");
+    }
+}
@@ -0,0 +1,165 @@
+package com.reactnativenavigation.views.collapsingToolbar;
+
+import android.content.Context;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.ScrollView;
+
+import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseTopBarBehaviour;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Replays recorded drag gestures through CollapseCalculator.calculate() and counts the bytes allocated per event.
+ * The same events are replayed through a bare GestureDetector as a baseline, since the detector and Robolectric's
+ * MotionEvent shadows allocate on their own. Once warmed up, the calculator must allocate less than the smallest
+ * object per event above the baseline, i.e. nothing but measurement noise.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class CollapseCalculatorAllocationTest {
+    private static final int GESTURES = 200;
+    private static final int MOVES_PER_GESTURE = 50;
+    private static final float MOVE_PIXELS = 0.5f;
+    private static final int WARM_UP = 3;
+    private static final double TOLERANCE_BYTES_PER_EVENT = 16;
+
+    private final List<MotionEvent> events = new ArrayList<>();
+    private Context context;
+    private FakeCollapsingView view;
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @Before
+    public void beforeEach() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        context = RuntimeEnvironment.application;
+        view = new FakeCollapsingView(context);
+        recordGestures();
+    }
+
+    @Test
+    public void calculateDoesNotAllocateAfterWarmUp() {
+        CollapseCalculator calculator = new CollapseCalculator(context, view, new CollapseTopBarBehaviour());
+        calculator.setScrollView(new ScrollView(context));
+        GestureDetector baselineDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener());
+
+        for (int i = 0; i < WARM_UP; i++) {
+            replay(calculator);
+            replay(baselineDetector);
+        }
+        long calculatorBytes = replay(calculator);
+        long baselineBytes = replay(baselineDetector);
+
+        double bytesPerEvent = (double) (calculatorBytes - baselineBytes) / events.size();
+        assertThat(bytesPerEvent).as("bytes per event above baseline").isLessThan(TOLERANCE_BYTES_PER_EVENT);
+    }
+
+    @Test
+    public void exactAmountsAreReused() {
+        CollapseCalculator calculator = new CollapseCalculator(context, view, new CollapseTopBarBehaviour());
+        calculator.setScrollView(new ScrollView(context));
+        CollapseAmount first = null;
+        for (MotionEvent event : events) {
+            CollapseAmount amount = calculator.calculate(event);
+            if (amount.hasExactAmount()) {
+                if (first == null) {
+                    first = amount;
+                }
+                assertThat(amount).isSameAs(first);
+                view.collapse(amount);
+            }
+        }
+        assertThat(first).isNotNull();
+    }
+
+    private long replay(CollapseCalculator calculator) {
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (MotionEvent event : events) {
+            CollapseAmount amount = calculator.calculate(event);
+            if (amount.hasExactAmount()) {
+                view.collapse(amount);
+            }
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private long replay(GestureDetector detector) {
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (MotionEvent event : events) {
+            detector.onTouchEvent(event);
+            event.getActionMasked();
+            event.getRawY();
+        }
+        return threadMXBean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    /**
+     * Slow drags which alternate between collapsing and expanding, too slow to be flings
+     */
+    private void recordGestures() {
+        long time = 0;
+        for (int gesture = 0; gesture < GESTURES; gesture++) {
+            float direction = gesture % 2 == 0 ? -1 : 1;
+            float y = 500;
+            long downTime = time;
+            events.add(MotionEvent.obtain(downTime, time, MotionEvent.ACTION_DOWN, 100, y, 0));
+            for (int move = 0; move < MOVES_PER_GESTURE; move++) {
+                time += 16;
+                y += direction * MOVE_PIXELS;
+                events.add(MotionEvent.obtain(downTime, time, MotionEvent.ACTION_MOVE, 100, y, 0));
+            }
+            time += 16;
+            events.add(MotionEvent.obtain(downTime, time, MotionEvent.ACTION_UP, 100, y, 0));
+            time += 500;
+        }
+    }
+
+    private static class FakeCollapsingView implements CollapsingView {
+        private final View view;
+        private float currentCollapseValue = 0;
+
+        FakeCollapsingView(Context context) {
+            view = new View(context);
+        }
+
+        @Override
+        public float getFinalCollapseValue() {
+            return -200;
+        }
+
+        @Override
+        public float getCurrentCollapseValue() {
+            return currentCollapseValue;
+        }
+
+        @Override
+        public View asView() {
+            return view;
+        }
+
+        @Override
+        public void collapse(CollapseAmount amount) {
+            currentCollapseValue = amount.get();
+        }
+
+        @Override
+        public void fling(CollapseAmount amount) {
+        }
+    }
+}
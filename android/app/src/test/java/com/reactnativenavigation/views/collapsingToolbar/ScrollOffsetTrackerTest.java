@@ -0,0 +1,179 @@
+package com.reactnativenavigation.views.collapsingToolbar;
+
+import android.content.Context;
+import android.support.annotation.Nullable;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.ScrollView;
+
+import com.reactnativenavigation.views.collapsingToolbar.behaviours.CollapseTopBarBehaviour;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+/**
+ * Scrolls the content of a collapsing screen and checks where the top bar and the content end up. The content's
+ * container is translated with the top bar like CollapsingSingleScreen does when the screen is drawn below the top bar,
+ * its on screen position is its translation minus its scroll.
+ */
+@RunWith(RobolectricTestRunner.class)
+public class ScrollOffsetTrackerTest {
+    private static final float FINAL_COLLAPSE_VALUE = -200;
+
+    private FakeCollapsingView topBar;
+    private FrameLayout content;
+    private ScrollView scrollView;
+    private ScrollOffsetTracker uut;
+
+    @Before
+    public void beforeEach() {
+        Context context = RuntimeEnvironment.application;
+        topBar = new FakeCollapsingView(context);
+        content = new FrameLayout(context);
+        scrollView = new ScrollView(context);
+        View scrollContent = new View(context);
+        scrollContent.setMinimumHeight(5000);
+        scrollView.addView(scrollContent);
+        content.addView(scrollView);
+        content.measure(makeMeasureSpec(500, EXACTLY), makeMeasureSpec(1000, EXACTLY));
+        content.layout(0, 0, 500, 1000);
+        uut = new ScrollOffsetTracker(topBar, new OnScrollListener() {
+            @Override
+            public void onScroll(@Nullable MotionEvent event, CollapseAmount amount) {
+                topBar.collapse(amount);
+                content.setTranslationY(amount.get());
+            }
+
+            @Override
+            public void onFling(CollapseAmount amount) {
+            }
+        }, new CollapseTopBarBehaviour());
+        uut.setScrollView(scrollView);
+    }
+
+    @Test
+    public void contentMovesByTheDistanceItScrolled() {
+        uut.setContentFollowsTopBar(true);
+
+        scrollBy(50);
+
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(-50);
+        assertThat(content.getTranslationY()).isEqualTo(-50);
+        assertThat(scrollView.getScrollY()).isEqualTo(0);
+        assertThat(getContentPosition()).isEqualTo(-50);
+    }
+
+    @Test
+    public void contentScrollsOnceTopBarIsCollapsed() {
+        uut.setContentFollowsTopBar(true);
+
+        scrollBy(150);
+        scrollBy(150);
+
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(FINAL_COLLAPSE_VALUE);
+        assertThat(content.getTranslationY()).isEqualTo(FINAL_COLLAPSE_VALUE);
+        assertThat(scrollView.getScrollY()).isEqualTo(100);
+        assertThat(getContentPosition()).isEqualTo(-300);
+    }
+
+    @Test
+    public void contentMovesWithTopBarWhenExpandingAtItsTop() {
+        uut.setContentFollowsTopBar(true);
+        scrollBy(300);
+
+        scrollBy(-100);
+        scrollBy(-100);
+        scrollBy(-100);
+
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(0);
+        assertThat(scrollView.getScrollY()).isEqualTo(0);
+        assertThat(getContentPosition()).isEqualTo(0);
+    }
+
+    @Test
+    public void scrollIsNotConsumedWhenContentDoesNotFollowTopBar() {
+        uut.setContentFollowsTopBar(false);
+
+        scrollBy(50);
+
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(-50);
+        assertThat(scrollView.getScrollY()).isEqualTo(50);
+    }
+
+    @Test
+    public void nestedScrollIsConsumedByTopBarBeforeContentScrolls() {
+        uut.setContentFollowsTopBar(true);
+        uut.onNestedScrollStarted();
+
+        assertThat(uut.onNestedPreScroll(150)).isEqualTo(150);
+        assertThat(uut.onNestedPreScroll(150)).isEqualTo(50);
+        uut.onNestedScroll(100, 0);
+
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(FINAL_COLLAPSE_VALUE);
+        assertThat(content.getTranslationY()).isEqualTo(FINAL_COLLAPSE_VALUE);
+    }
+
+    @Test
+    public void nestedScrollTowardsTopExpandsOnlyOnceContentIsAtItsTop() {
+        uut.setContentFollowsTopBar(true);
+        uut.onNestedScrollStarted();
+        uut.onNestedPreScroll(200);
+
+        assertThat(uut.onNestedPreScroll(-50)).isEqualTo(0);
+        uut.onNestedScroll(-50, 0);
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(FINAL_COLLAPSE_VALUE);
+
+        uut.onNestedScroll(0, -50);
+        assertThat(topBar.getCurrentCollapseValue()).isEqualTo(FINAL_COLLAPSE_VALUE + 50);
+    }
+
+    private void scrollBy(int dy) {
+        scrollView.scrollBy(0, dy);
+        uut.onScrollChanged();
+    }
+
+    private float getContentPosition() {
+        return content.getTranslationY() - scrollView.getScrollY();
+    }
+
+    private static class FakeCollapsingView implements CollapsingView {
+        private final View view;
+        private float currentCollapseValue = 0;
+
+        FakeCollapsingView(Context context) {
+            view = new View(context);
+        }
+
+        @Override
+        public float getFinalCollapseValue() {
+            return FINAL_COLLAPSE_VALUE;
+        }
+
+        @Override
+        public float getCurrentCollapseValue() {
+            return currentCollapseValue;
+        }
+
+        @Override
+        public View asView() {
+            return view;
+        }
+
+        @Override
+        public void collapse(CollapseAmount amount) {
+            currentCollapseValue = amount.get();
+        }
+
+        @Override
+        public void fling(CollapseAmount amount) {
+        }
+    }
+}
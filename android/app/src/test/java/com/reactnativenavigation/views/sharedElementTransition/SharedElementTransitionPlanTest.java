@@ -0,0 +1,94 @@
+package com.reactnativenavigation.views.sharedElementTransition;
+
+import android.view.View;
+
+import com.reactnativenavigation.params.parsers.SharedElementTransitionParams;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class SharedElementTransitionPlanTest {
+    private SharedElementTransition from;
+    private SharedElementTransition to;
+
+    @Before
+    public void beforeEach() {
+        from = createElement(10, 20, 100, 50);
+        to = createElement(30, 60, 200, 100);
+    }
+
+    @Test
+    public void showAnimatesFromPreviousElement() {
+        SharedElementTransitionPlan uut = new SharedElementTransitionPlan(from, to);
+
+        assertThat(uut.show.startX).isEqualTo(-20);
+        assertThat(uut.show.startY).isEqualTo(-40);
+        assertThat(uut.show.endX).isEqualTo(0);
+        assertThat(uut.show.endY).isEqualTo(0);
+        assertThat(uut.show.startScaleX).isEqualTo(0.5f);
+        assertThat(uut.show.startScaleY).isEqualTo(0.5f);
+        assertThat(uut.show.endScaleX).isEqualTo(1f);
+        assertThat(uut.show.endScaleY).isEqualTo(1f);
+    }
+
+    @Test
+    public void hideIsShowInverted() {
+        SharedElementTransitionPlan uut = new SharedElementTransitionPlan(from, to);
+
+        assertThat(uut.hide.dx).isEqualTo(uut.show.dx);
+        assertThat(uut.hide.dy).isEqualTo(uut.show.dy);
+        assertThat(uut.hide.startX).isEqualTo(uut.show.endX);
+        assertThat(uut.hide.startY).isEqualTo(uut.show.endY);
+        assertThat(uut.hide.endX).isEqualTo(uut.show.startX);
+        assertThat(uut.hide.endY).isEqualTo(uut.show.startY);
+        assertThat(uut.hide.startScaleX).isEqualTo(uut.show.endScaleX);
+        assertThat(uut.hide.endScaleX).isEqualTo(uut.show.startScaleX);
+        assertThat(uut.hide.startScaleY).isEqualTo(uut.show.endScaleY);
+        assertThat(uut.hide.endScaleY).isEqualTo(uut.show.startScaleY);
+        assertThat(uut.hide.startDrawingRect).isSameAs(uut.show.endDrawingRect);
+        assertThat(uut.hide.endDrawingRect).isSameAs(uut.show.startDrawingRect);
+    }
+
+    @Test
+    public void planIsValidUntilAnElementMoves() {
+        SharedElementTransitionPlan uut = new SharedElementTransitionPlan(from, to);
+        assertThat(uut.isValidFor(from, to)).isTrue();
+
+        from.layout(15, 20, 115, 70);
+
+        assertThat(uut.isValidFor(from, to)).isFalse();
+    }
+
+    @Test
+    public void planIsInvalidOnceAnElementIsResized() {
+        SharedElementTransitionPlan uut = new SharedElementTransitionPlan(from, to);
+
+        to.layout(30, 60, 250, 160);
+
+        assertThat(uut.isValidFor(from, to)).isFalse();
+    }
+
+    @Test
+    public void planIsInvalidForOtherElements() {
+        SharedElementTransitionPlan uut = new SharedElementTransitionPlan(from, to);
+
+        assertThat(uut.isValidFor(createElement(10, 20, 100, 50), to)).isFalse();
+    }
+
+    private static SharedElementTransition createElement(int left, int top, int width, int height) {
+        SharedElementTransition result = new SharedElementTransition(RuntimeEnvironment.application);
+        result.showTransitionParams = new SharedElementTransitionParams();
+        result.hideTransitionParams = new SharedElementTransitionParams();
+        View child = new View(RuntimeEnvironment.application);
+        result.addView(child);
+        result.layout(left, top, left + width, top + height);
+        child.layout(0, 0, width, height);
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package com.reactnativenavigation.views.utils;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+import android.widget.RadioButton;
+import android.widget.RadioGroup;
+import android.widget.ScrollView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public class ViewHierarchyIndexTest {
+    private FrameLayout root;
+
+    @Before
+    public void beforeEach() {
+        root = new FrameLayout(RuntimeEnvironment.application);
+    }
+
+    @Test
+    public void findsViewsAddedAfterIndexing() {
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+        LinearLayout container = new LinearLayout(RuntimeEnvironment.application);
+        root.addView(container);
+        ScrollView scrollView = new ScrollView(RuntimeEnvironment.application);
+        container.addView(scrollView);
+
+        assertThat(uut.findViewByClass(ScrollView.class)).isSameAs(scrollView);
+
+        container.removeView(scrollView);
+
+        assertThat(uut.findViewByClass(ScrollView.class)).isNull();
+    }
+
+    @Test
+    public void chainedListenersAreCalledAndRestored() {
+        final List<View> added = new ArrayList<>();
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+        LinearLayout container = new LinearLayout(RuntimeEnvironment.application);
+        root.addView(container);
+        uut.setOnHierarchyChangeListener(container, new ViewGroup.OnHierarchyChangeListener() {
+            @Override
+            public void onChildViewAdded(View parent, View child) {
+                added.add(child);
+            }
+
+            @Override
+            public void onChildViewRemoved(View parent, View child) {
+            }
+        });
+
+        ScrollView scrollView = new ScrollView(RuntimeEnvironment.application);
+        container.addView(scrollView);
+        assertThat(uut.findViewByClass(ScrollView.class)).isSameAs(scrollView);
+        root.removeView(container);
+        View child = new View(RuntimeEnvironment.application);
+        container.addView(child);
+
+        assertThat(added).containsExactly(scrollView, child);
+    }
+
+    @Test
+    public void radioGroupsKeepTheirOwnListener() {
+        new ViewHierarchyIndex(root);
+        RadioGroup radioGroup = new RadioGroup(RuntimeEnvironment.application);
+        root.addView(radioGroup);
+        RadioButton button = new RadioButton(RuntimeEnvironment.application);
+        radioGroup.addView(button);
+
+        button.setChecked(true);
+
+        assertThat(radioGroup.getCheckedRadioButtonId()).isEqualTo(button.getId());
+    }
+
+    @Test
+    public void existingChildrenAreIndexed() {
+        LinearLayout container = new LinearLayout(RuntimeEnvironment.application);
+        ScrollView scrollView = new ScrollView(RuntimeEnvironment.application);
+        container.addView(scrollView);
+        root.addView(container);
+
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+
+        assertThat(uut.findViewByClass(ScrollView.class)).isSameAs(scrollView);
+        assertThat(uut.findViewByClass(ViewGroup.class)).isSameAs(container);
+    }
+
+    @Test
+    public void addedSubtreesAreIndexedOnce() {
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+        final List<View> added = new ArrayList<>();
+        uut.addListener(View.class, new ViewHierarchyIndex.Listener() {
+            @Override
+            public void onViewAdded(View view) {
+                added.add(view);
+            }
+
+            @Override
+            public void onViewRemoved(View view) {
+            }
+        });
+        LinearLayout container = new LinearLayout(RuntimeEnvironment.application);
+        View first = new View(RuntimeEnvironment.application);
+        container.addView(first);
+        root.addView(container);
+        View second = new View(RuntimeEnvironment.application);
+        container.addView(second);
+
+        assertThat(added).containsExactly(first, container, second);
+    }
+
+    @Test
+    public void findsViewsByTag() {
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+        LinearLayout container = new LinearLayout(RuntimeEnvironment.application);
+        View tagged = new View(RuntimeEnvironment.application);
+        tagged.setTag("tagged");
+        container.addView(tagged);
+        root.addView(container);
+
+        assertThat(uut.findViewWithTag("tagged")).isSameAs(tagged);
+
+        container.removeView(tagged);
+
+        assertThat(uut.findViewWithTag("tagged")).isNull();
+    }
+
+    @Test
+    public void destroyStopsIndexing() {
+        ViewHierarchyIndex uut = new ViewHierarchyIndex(root);
+        uut.destroy();
+        root.addView(new ScrollView(RuntimeEnvironment.application));
+
+        assertThat(uut.findViewByClass(ScrollView.class)).isNull();
+    }
+}